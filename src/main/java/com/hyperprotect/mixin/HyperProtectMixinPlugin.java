@@ -1,6 +1,10 @@
 package com.hyperprotect.mixin;
 
+import com.hyperprotect.mixin.bridge.CapabilityCache;
+import com.hyperprotect.mixin.bridge.ClaimGrid;
 import com.hyperprotect.mixin.bridge.ProtectionBridge;
+import com.hyperprotect.mixin.bridge.RegionIndex;
+import com.hyperprotect.mixin.bridge.SpawnOrder;
 import com.hyperprotect.mixin.msg.ChatFormatter;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
@@ -10,6 +14,8 @@ import org.jetbrains.annotations.NotNull;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Level;
 
@@ -40,6 +46,48 @@ public class HyperProtectMixinPlugin extends JavaPlugin {
             getLogger().at(Level.WARNING).log("Failed to cache ChatFormatter handle: " + e.getMessage());
         }
 
+        // Cache the CapabilityCache.isAllowed MethodHandle for cross-classloader access
+        try {
+            MethodHandle capabilityHandle = MethodHandles.publicLookup().findStatic(
+                    CapabilityCache.class, "isAllowed",
+                    MethodType.methodType(boolean.class,
+                            int.class, UUID.class, String.class, int.class, int.class));
+            bridge.set(ProtectionBridge.capability_handle, capabilityHandle);
+        } catch (Exception e) {
+            getLogger().at(Level.WARNING).log("Failed to cache CapabilityCache handle: " + e.getMessage());
+        }
+
+        // Cache the ClaimGrid.lookup MethodHandle for cross-classloader access
+        try {
+            MethodHandle claimHandle = MethodHandles.publicLookup().findStatic(
+                    ClaimGrid.class, "lookup",
+                    MethodType.methodType(long.class, String.class, int.class, int.class));
+            bridge.set(ProtectionBridge.claim_handle, claimHandle);
+        } catch (Exception e) {
+            getLogger().at(Level.WARNING).log("Failed to cache ClaimGrid handle: " + e.getMessage());
+        }
+
+        // Cache the RegionIndex.intersection MethodHandle for cross-classloader access
+        try {
+            MethodHandle regionHandle = MethodHandles.publicLookup().findStatic(
+                    RegionIndex.class, "intersection",
+                    MethodType.methodType(int.class, String.class, int[].class, int.class, long[].class));
+            bridge.set(ProtectionBridge.region_handle, regionHandle);
+        } catch (Exception e) {
+            getLogger().at(Level.WARNING).log("Failed to cache RegionIndex handle: " + e.getMessage());
+        }
+
+        // Cache the SpawnOrder.record MethodHandle for cross-classloader access
+        try {
+            MethodHandle spawnOrderHandle = MethodHandles.publicLookup().findStatic(
+                    SpawnOrder.class, "record",
+                    MethodType.methodType(void.class, AtomicLongArray.class, boolean.class,
+                            long.class, boolean.class, long.class, boolean.class));
+            bridge.set(ProtectionBridge.spawn_order_handle, spawnOrderHandle);
+        } catch (Exception e) {
+            getLogger().at(Level.WARNING).log("Failed to cache SpawnOrder handle: " + e.getMessage());
+        }
+
         // Store classloader for fallback access
         System.getProperties().put("hyperprotect.bridge.loader", getClass().getClassLoader());
 
@@ -86,7 +134,9 @@ public class HyperProtectMixinPlugin extends JavaPlugin {
             System.setProperty("hyperprotect.intercept.block_break", "true");
             System.setProperty("hyperprotect.intercept.block_place", "true");
             System.setProperty("hyperprotect.intercept.explosion", "true");
+            System.setProperty("hyperprotect.intercept.block_damage", "true");
             System.setProperty("hyperprotect.intercept.fire_spread", "true");
+            System.setProperty("hyperprotect.intercept.fluid_spread", "true");
             System.setProperty("hyperprotect.intercept.builder_tools", "true");
             System.setProperty("hyperprotect.intercept.item_pickup", "true");
             System.setProperty("hyperprotect.intercept.item_pickup_manual", "true");
@@ -126,7 +176,7 @@ public class HyperProtectMixinPlugin extends JavaPlugin {
         } else {
             getLogger().at(Level.INFO).log("HyperProtect-Mixin loaded! (STANDALONE mode)");
             getLogger().at(Level.INFO).log("Protection hooks: block-break, block-place, explosion, entity-damage, " +
-                    "auto-pickup, fire-spread, command, builder-tools, death-drop, durability, " +
+                    "auto-pickup, fire-spread, fluid-spread, command, builder-tools, death-drop, durability, " +
                     "container-access, container-open, mob-spawn, teleporter, portal, " +
                     "hammer, use, seat, respawn, crop-harvest, capture-crate, npc-use, interaction-log");
         }
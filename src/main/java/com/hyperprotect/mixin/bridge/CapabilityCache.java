@@ -0,0 +1,158 @@
+package com.hyperprotect.mixin.bridge;
+
+import java.lang.invoke.MethodType;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player, per-chunk cache of capability bitmasks.
+ *
+ * The hook at {@link ProtectionBridge#capabilities} implements
+ * {@code long computeCapabilities(UUID playerUuid, String worldName, int chunkX, int chunkZ)}.
+ * Bit {@code 1L << slot} set means the player may perform that slot's action anywhere in
+ * the chunk, so interceptors skip the per-slot hook. A clear bit means "ask the slot hook".
+ * The mask never denies on its own — deny decisions and messages stay with the slot hooks.
+ *
+ * Up to {@value #CHUNKS_PER_PLAYER} masks are kept per player, one per chunk, so checks that
+ * alternate between neighbouring chunks (pastes, breaks across a border) don't evict each
+ * other; the least recently used chunk is replaced. Masks are recomputed when the
+ * capabilities hook is replaced or the consumer bumps the capabilities epoch via
+ * {@link ProtectionBridge#invalidate(int)}. Players not checked for
+ * {@code -Dhyperprotect.capabilities.idle_ms} (default 300000) are dropped, so the cache
+ * does not grow across disconnects even if the consumer never calls {@link #forget}.
+ *
+ * Interceptors reach {@link #isAllowed} through the MethodHandle cached in
+ * {@link ProtectionBridge#capability_handle}.
+ */
+public final class CapabilityCache {
+
+    /** Hytale chunks are 32 blocks wide. */
+    private static final int CHUNK_SHIFT = 5;
+
+    private static final MethodType COMPUTE_TYPE = MethodType.methodType(
+            long.class, UUID.class, String.class, int.class, int.class);
+
+    private static final FaultReporter FAULTS = new FaultReporter("CapabilityCache");
+
+    private static final int CHUNKS_PER_PLAYER = 4;
+
+    private static final long IDLE_NANOS =
+            Math.max(1L, Long.getLong("hyperprotect.capabilities.idle_ms", 300_000L)) * 1_000_000L;
+
+    private static final ConcurrentHashMap<UUID, PlayerMasks> entries = new ConcurrentHashMap<>();
+
+    private static volatile HookSlot cachedSlot;
+
+    private static volatile long lastSweep = System.nanoTime();
+
+    private record Entry(Object impl, long epoch, String worldName, int chunkX, int chunkZ, long mask) {
+        boolean matches(Object impl, long epoch, String worldName, int chunkX, int chunkZ) {
+            return this.impl == impl && this.epoch == epoch
+                    && this.chunkX == chunkX && this.chunkZ == chunkZ
+                    && this.worldName.equals(worldName);
+        }
+    }
+
+    /** A player's recently used chunk masks, most recent first. */
+    private static final class PlayerMasks {
+        private final Entry[] chunks = new Entry[CHUNKS_PER_PLAYER];
+        private volatile long lastUsed;
+
+        synchronized Entry find(Object impl, long epoch, String worldName, int chunkX, int chunkZ, long now) {
+            lastUsed = now;
+            for (int i = 0; i < chunks.length; i++) {
+                Entry entry = chunks[i];
+                if (entry != null && entry.matches(impl, epoch, worldName, chunkX, chunkZ)) {
+                    // Move to the front so the least recently used chunk is evicted first
+                    System.arraycopy(chunks, 0, chunks, 1, i);
+                    chunks[0] = entry;
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        synchronized void add(Entry entry) {
+            System.arraycopy(chunks, 0, chunks, 1, chunks.length - 1);
+            chunks[0] = entry;
+        }
+    }
+
+    private CapabilityCache() {}
+
+    /**
+     * Whether the capability mask marks the slot as allowed for this player at the
+     * given block column. Returns false ("ask the hook") when no capabilities hook is
+     * attached, the slot is out of range, or the hook fails.
+     */
+    public static boolean isAllowed(int slot, UUID playerUuid, String worldName, int blockX, int blockZ) {
+        if (playerUuid == null || worldName == null || slot < 0 || slot >= Long.SIZE) return false;
+
+        HookSlot hook = resolveSlot();
+        if (hook == null) return false;
+
+        int chunkX = blockX >> CHUNK_SHIFT;
+        int chunkZ = blockZ >> CHUNK_SHIFT;
+        long epoch = ProtectionBridge.epoch(ProtectionBridge.capabilities);
+
+        long now = System.nanoTime();
+        if (now - lastSweep > IDLE_NANOS) sweep(now);
+
+        PlayerMasks masks = entries.computeIfAbsent(playerUuid, uuid -> new PlayerMasks());
+        Entry entry = masks.find(hook.impl(), epoch, worldName, chunkX, chunkZ, now);
+        if (entry == null) {
+            long mask;
+            try {
+                mask = (long) hook.primary().invoke(hook.impl(), playerUuid, worldName, chunkX, chunkZ);
+            } catch (Throwable t) {
+                FAULTS.report(t);
+                return false; // Fail-open to the slot hook
+            }
+            entry = new Entry(hook.impl(), epoch, worldName, chunkX, chunkZ, mask);
+            masks.add(entry);
+        }
+        return (entry.mask() & (1L << slot)) != 0;
+    }
+
+    /**
+     * Drops players that have not been checked for the idle timeout (e.g. disconnected).
+     */
+    private static void sweep(long now) {
+        lastSweep = now;
+        entries.values().removeIf(masks -> now - masks.lastUsed > IDLE_NANOS);
+    }
+
+    /**
+     * Drops the cached mask for a player (e.g. on disconnect).
+     */
+    public static void forget(UUID playerUuid) {
+        if (playerUuid != null) entries.remove(playerUuid);
+    }
+
+    /**
+     * Drops every cached mask.
+     */
+    public static void clear() {
+        entries.clear();
+    }
+
+    private static HookSlot resolveSlot() {
+        HookSlot cached = cachedSlot;
+        Object impl = ProtectionBridge.get(ProtectionBridge.capabilities);
+        if (impl == null) {
+            cachedSlot = null;
+            return null;
+        }
+        if (cached != null && cached.impl() == impl) {
+            return cached;
+        }
+        try {
+            cached = ProtectionBridge.resolve(ProtectionBridge.capabilities, "computeCapabilities", COMPUTE_TYPE);
+            cachedSlot = cached;
+            return cached;
+        } catch (IllegalArgumentException e) {
+            FAULTS.report(e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package com.hyperprotect.mixin.bridge;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memory-mapped chunk → claim table for one world.
+ *
+ * The file is read in place — opening it maps the file and does no deserialization, so a
+ * warm start has claims available immediately and co-located server processes share one
+ * page-cache copy. One process at a time may hold the writer (enforced with a lock on a
+ * {@code .lock} sidecar file); any number of processes may read.
+ *
+ * <p>File layout (little-endian):
+ * <pre>
+ *   Header (64 bytes)
+ *     0  int   magic       'HPCG'
+ *     4  int   version     1
+ *     8  long  generation  seqlock counter — odd while a write is in progress,
+ *                          -1 once the file has been replaced by a larger one
+ *    16  int   capacity    entry slots, power of two
+ *    20  int   size        live entries
+ *    24  int   tombstones  removed entries still occupying a slot
+ *   Entries (capacity x 16 bytes), open addressing with linear probing
+ *     0  long  key         chunkX &lt;&lt; 32 | chunkZ
+ *     8  int   claimId     0 = empty slot, -1 = tombstone, &gt; 0 = claimed
+ *    12  int   flags       consumer-defined
+ * </pre>
+ *
+ * Readers retry when the generation is odd or changes during a lookup. A reader that cannot
+ * get a consistent read within {@value #MAX_READ_SPINS} attempts (e.g. the writer died
+ * mid-write) returns {@link #UNKNOWN} instead of a possibly torn entry; callers then ask
+ * the hook. When the table fills up the writer builds a larger file, atomically renames it
+ * over the old one and marks the old mapping retired; readers then reopen the path.
+ *
+ * <p>Growing relies on POSIX rename semantics (replacing a file that other processes still
+ * have mapped), so grids are supported on Linux and macOS. On Windows the rename fails
+ * while the old file is mapped and {@link #put} throws once the table needs to grow.
+ *
+ * <p>{@link #lookup(String, int, int)} reads from the grids registered per world and is
+ * published to interceptors through the MethodHandle in {@link ProtectionBridge#claim_handle}.
+ */
+public final class ClaimGrid implements AutoCloseable {
+
+    public static final int MAGIC = 0x48504347; // 'HPCG'
+    public static final int VERSION = 1;
+
+    /**
+     * Lookup result when no consistent read was possible: claim id -1, which no stored
+     * entry can have. Callers treat it as "unknown" and fall back to the hook.
+     */
+    public static final long UNKNOWN = -1L;
+
+    private static final int HEADER_BYTES = 64;
+    private static final int ENTRY_BYTES = 16;
+    private static final int OFF_MAGIC = 0;
+    private static final int OFF_VERSION = 4;
+    private static final int OFF_GENERATION = 8;
+    private static final int OFF_CAPACITY = 16;
+    private static final int OFF_SIZE = 20;
+    private static final int OFF_TOMBSTONES = 24;
+
+    private static final int EMPTY = 0;
+    private static final int TOMBSTONE = -1;
+    private static final long RETIRED = -1L;
+
+    private static final int MIN_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 26;
+    private static final int MAX_READ_SPINS = 1024;
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final FaultReporter FAULTS = new FaultReporter("ClaimGrid");
+
+    private static final ConcurrentHashMap<String, ClaimGrid> worlds = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final boolean writable;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private volatile MappedByteBuffer buffer;
+    private int capacity;
+
+    private ClaimGrid(Path path, boolean writable, FileChannel lockChannel, FileLock lock) {
+        this.path = path;
+        this.writable = writable;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+    }
+
+    // --- Opening ---
+
+    /**
+     * Maps an existing grid file read-only.
+     *
+     * @throws IOException if the file is missing or is not a claim grid
+     */
+    public static ClaimGrid open(Path path) throws IOException {
+        ClaimGrid grid = new ClaimGrid(path, false, null, null);
+        grid.map();
+        return grid;
+    }
+
+    /**
+     * Opens the grid for writing, creating it if needed. Fails if another process
+     * already holds the writer.
+     *
+     * @param initialCapacity expected number of claimed chunks (only used for a new file)
+     */
+    public static ClaimGrid openWriter(Path path, int initialCapacity) throws IOException {
+        Path lockPath = path.resolveSibling(path.getFileName() + ".lock");
+        FileChannel lockChannel = FileChannel.open(lockPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null; // Held by this JVM
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("Claim grid is already open for writing: " + path);
+        }
+
+        ClaimGrid grid = new ClaimGrid(path, true, lockChannel, lock);
+        try {
+            if (!Files.exists(path)) {
+                writeEmpty(path, capacityFor(initialCapacity));
+            }
+            grid.map();
+            // A writer that died mid-write leaves an odd generation behind
+            long gen = grid.generation();
+            if ((gen & 1) != 0) {
+                LONG_VIEW.setRelease(grid.buffer, OFF_GENERATION, gen + 1);
+            }
+        } catch (IOException | RuntimeException e) {
+            grid.close();
+            throw e;
+        }
+        return grid;
+    }
+
+    // --- Per-world registry ---
+
+    /**
+     * Makes a grid visible to {@link #lookup(String, int, int)} for the given world.
+     * Replaces (without closing) any grid previously registered for it.
+     */
+    public static void register(String worldName, ClaimGrid grid) {
+        if (worldName != null && grid != null) worlds.put(worldName, grid);
+    }
+
+    /**
+     * Removes a world's grid from the registry, returning it (still open) or null.
+     */
+    public static ClaimGrid unregister(String worldName) {
+        return worldName != null ? worlds.remove(worldName) : null;
+    }
+
+    /**
+     * Returns the grid registered for a world, or null.
+     */
+    public static ClaimGrid forWorld(String worldName) {
+        return worldName != null ? worlds.get(worldName) : null;
+    }
+
+    /**
+     * Packed claim entry for a chunk in a registered world, 0 if the chunk is unclaimed or
+     * the world has no grid, or {@link #UNKNOWN} if the grid could not be read. Use
+     * {@link #claimId(long)} and {@link #flags(long)} to unpack; a negative claim id
+     * means unknown.
+     */
+    public static long lookup(String worldName, int chunkX, int chunkZ) {
+        ClaimGrid grid = forWorld(worldName);
+        if (grid == null) return 0L;
+        try {
+            return grid.lookup(chunkX, chunkZ);
+        } catch (RuntimeException e) {
+            FAULTS.report(e);
+            return UNKNOWN;
+        }
+    }
+
+    public static int claimId(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    public static int flags(long packed) {
+        return (int) packed;
+    }
+
+    // --- Reads ---
+
+    /**
+     * Packed claim entry ({@code claimId << 32 | flags}) for a chunk, 0 if unclaimed, or
+     * {@link #UNKNOWN} if no consistent read was possible.
+     */
+    public long lookup(int chunkX, int chunkZ) {
+        long key = key(chunkX, chunkZ);
+        for (int spins = 0; spins < MAX_READ_SPINS; spins++) {
+            MappedByteBuffer buf = buffer;
+            long before = (long) LONG_VIEW.getAcquire(buf, OFF_GENERATION);
+            if (before == RETIRED) {
+                // The writer swaps its own mapping before retiring the old one
+                if (!writable) remap(buf);
+                continue;
+            }
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            long result = probe(buf, key);
+
+            VarHandle.loadLoadFence();
+            long after = (long) LONG_VIEW.getAcquire(buf, OFF_GENERATION);
+            if (after == before) return result;
+        }
+        // Writer stuck or dead mid-write — never hand out a possibly torn entry
+        return UNKNOWN;
+    }
+
+    /**
+     * Claim id for a chunk, 0 if unclaimed, or -1 if unknown.
+     */
+    public int claimIdAt(int chunkX, int chunkZ) {
+        return claimId(lookup(chunkX, chunkZ));
+    }
+
+    /**
+     * Number of claimed chunks.
+     */
+    public int size() {
+        return buffer.getInt(OFF_SIZE);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    // --- Writes (writer only, single thread) ---
+
+    /**
+     * Claims a chunk, or updates its claim id and flags.
+     *
+     * @param claimId positive claim id
+     */
+    public synchronized void put(int chunkX, int chunkZ, int claimId, int flags) throws IOException {
+        requireWritable();
+        if (claimId <= 0) throw new IllegalArgumentException("claimId must be positive: " + claimId);
+
+        long key = key(chunkX, chunkZ);
+        MappedByteBuffer buf = buffer;
+        int slot = find(buf, key);
+        if (slot < 0) {
+            int size = buf.getInt(OFF_SIZE);
+            int tombstones = buf.getInt(OFF_TOMBSTONES);
+            if ((size + tombstones + 1) * 2 > capacity) {
+                grow((size + 1) * 2);
+                buf = buffer;
+            }
+            slot = insertionSlot(buf, key);
+        }
+
+        int offset = entryOffset(slot);
+        int previous = buf.getInt(offset + 8);
+        beginWrite(buf);
+        buf.putInt(offset + 8, claimId);
+        buf.putInt(offset + 12, flags);
+        buf.putLong(offset, key);
+        if (previous <= 0) {
+            buf.putInt(OFF_SIZE, buf.getInt(OFF_SIZE) + 1);
+            if (previous == TOMBSTONE) buf.putInt(OFF_TOMBSTONES, buf.getInt(OFF_TOMBSTONES) - 1);
+        }
+        endWrite(buf);
+    }
+
+    /**
+     * Unclaims a chunk. Returns whether it was claimed.
+     */
+    public synchronized boolean remove(int chunkX, int chunkZ) {
+        requireWritable();
+        MappedByteBuffer buf = buffer;
+        int slot = find(buf, key(chunkX, chunkZ));
+        if (slot < 0) return false;
+
+        beginWrite(buf);
+        buf.putInt(entryOffset(slot) + 8, TOMBSTONE);
+        buf.putInt(OFF_SIZE, buf.getInt(OFF_SIZE) - 1);
+        buf.putInt(OFF_TOMBSTONES, buf.getInt(OFF_TOMBSTONES) + 1);
+        endWrite(buf);
+        return true;
+    }
+
+    /**
+     * Flushes the mapping to disk. Other processes see writes without this; it only
+     * matters for durability across a host crash.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        worlds.values().removeIf(grid -> grid == this);
+        try {
+            if (lock != null) lock.release();
+        } finally {
+            if (lockChannel != null) lockChannel.close();
+        }
+    }
+
+    // --- Internals ---
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int entryOffset(int slot) {
+        return HEADER_BYTES + slot * ENTRY_BYTES;
+    }
+
+    private static int capacityFor(int entries) {
+        int wanted = (int) Math.min(MAX_CAPACITY, Math.max(MIN_CAPACITY, entries * 2L));
+        int capacity = Integer.highestOneBit(wanted);
+        return capacity < wanted ? capacity << 1 : capacity;
+    }
+
+    private long generation() {
+        return (long) LONG_VIEW.getAcquire(buffer, OFF_GENERATION);
+    }
+
+    private long probe(MappedByteBuffer buf, long key) {
+        int cap = buf.getInt(OFF_CAPACITY);
+        if (cap <= 0 || (cap & (cap - 1)) != 0 || entryOffset(cap) > buf.capacity()) {
+            return 0L; // Torn header — the generation check will reject this read
+        }
+        int mask = cap - 1;
+        int slot = hash(key, mask);
+        for (int i = 0; i < cap; i++) {
+            int offset = entryOffset(slot);
+            int claimId = buf.getInt(offset + 8);
+            if (claimId == EMPTY) return 0L;
+            if (claimId != TOMBSTONE && buf.getLong(offset) == key) {
+                return ((long) claimId << 32) | (buf.getInt(offset + 12) & 0xFFFFFFFFL);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0L;
+    }
+
+    /** Slot holding the key, or -1. */
+    private int find(MappedByteBuffer buf, long key) {
+        int mask = capacity - 1;
+        int slot = hash(key, mask);
+        for (int i = 0; i < capacity; i++) {
+            int offset = entryOffset(slot);
+            int claimId = buf.getInt(offset + 8);
+            if (claimId == EMPTY) return -1;
+            if (claimId != TOMBSTONE && buf.getLong(offset) == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** First tombstone or empty slot on the key's probe path. */
+    private int insertionSlot(MappedByteBuffer buf, long key) {
+        int mask = capacity - 1;
+        int slot = hash(key, mask);
+        while (true) {
+            int claimId = buf.getInt(entryOffset(slot) + 8);
+            if (claimId == EMPTY || claimId == TOMBSTONE) return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static void beginWrite(MappedByteBuffer buf) {
+        long gen = (long) LONG_VIEW.getAcquire(buf, OFF_GENERATION);
+        LONG_VIEW.setRelease(buf, OFF_GENERATION, gen + 1);
+        VarHandle.storeStoreFence();
+    }
+
+    private static void endWrite(MappedByteBuffer buf) {
+        long gen = (long) LONG_VIEW.getAcquire(buf, OFF_GENERATION);
+        LONG_VIEW.setRelease(buf, OFF_GENERATION, gen + 1);
+    }
+
+    private void requireWritable() {
+        if (!writable) throw new IllegalStateException("Claim grid is open read-only: " + path);
+    }
+
+    /**
+     * Rebuilds the table into a larger file and swaps it in. Readers in other processes
+     * see the old mapping marked retired and reopen the path.
+     */
+    private void grow(int entries) throws IOException {
+        int newCapacity = capacityFor(entries);
+        if (newCapacity <= capacity && buffer.getInt(OFF_TOMBSTONES) == 0) {
+            throw new IOException("Claim grid is full (" + capacity + " slots): " + path);
+        }
+        newCapacity = Math.max(newCapacity, capacity);
+
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        writeEmpty(tmp, newCapacity);
+        MappedByteBuffer old = buffer;
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer next = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) newCapacity * ENTRY_BYTES);
+            next.order(ByteOrder.LITTLE_ENDIAN);
+            int mask = newCapacity - 1;
+            int size = 0;
+            for (int i = 0; i < capacity; i++) {
+                int offset = entryOffset(i);
+                int claimId = old.getInt(offset + 8);
+                if (claimId <= 0) continue;
+                long key = old.getLong(offset);
+                int slot = hash(key, mask);
+                while (next.getInt(entryOffset(slot) + 8) != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                int target = entryOffset(slot);
+                next.putLong(target, key);
+                next.putInt(target + 8, claimId);
+                next.putInt(target + 12, old.getInt(offset + 12));
+                size++;
+            }
+            next.putInt(OFF_SIZE, size);
+            LONG_VIEW.setRelease(next, OFF_GENERATION, (generation() + 2) & ~1L);
+            next.force();
+        }
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Windows refuses to replace a file that is still mapped; the old table stays live
+            Files.deleteIfExists(tmp);
+            throw new IOException("Cannot replace claim grid " + path
+                    + " (growing requires POSIX rename semantics; Windows is not supported)", e);
+        }
+        map();
+        LONG_VIEW.setRelease(old, OFF_GENERATION, RETIRED);
+    }
+
+    private synchronized void remap(MappedByteBuffer seen) {
+        if (buffer != seen) return; // Another reader already reopened
+        try {
+            map();
+        } catch (IOException e) {
+            FAULTS.report(e);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void map() throws IOException {
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE }
+                : new StandardOpenOption[] { StandardOpenOption.READ };
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES) throw new IOException("Not a claim grid (too short): " + path);
+            MappedByteBuffer buf = channel.map(
+                    writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, length);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            if (buf.getInt(OFF_MAGIC) != MAGIC) throw new IOException("Not a claim grid (bad magic): " + path);
+            int version = buf.getInt(OFF_VERSION);
+            if (version != VERSION) throw new IOException("Unsupported claim grid version " + version + ": " + path);
+            int cap = buf.getInt(OFF_CAPACITY);
+            if (cap <= 0 || (cap & (cap - 1)) != 0 || HEADER_BYTES + (long) cap * ENTRY_BYTES > length) {
+                throw new IOException("Corrupt claim grid header: " + path);
+            }
+            this.capacity = cap;
+            this.buffer = buf;
+        }
+    }
+
+    private static void writeEmpty(Path file, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long length = HEADER_BYTES + (long) capacity * ENTRY_BYTES;
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            buf.putInt(OFF_MAGIC, MAGIC);
+            buf.putInt(OFF_VERSION, VERSION);
+            buf.putLong(OFF_GENERATION, 0L);
+            buf.putInt(OFF_CAPACITY, capacity);
+            buf.putInt(OFF_SIZE, 0);
+            buf.putInt(OFF_TOMBSTONES, 0);
+            buf.force();
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.hyperprotect.mixin.bridge;
 
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -11,11 +16,36 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *
  * The array uses bootstrap-class types only (AtomicReferenceArray, Object) so it
  * works across classloader boundaries without custom class casting.
+ *
+ * A parallel {@link AtomicLongArray} under {@code "hyperprotect.bridge.epoch"} holds one
+ * epoch counter per slot. Interceptor-side verdict caches remember the epoch they were
+ * filled under; consumers call {@link #invalidate(int)} to discard them.
+ *
+ * A {@link ConcurrentHashMap}{@code <UUID, Long>} under {@code "hyperprotect.bridge.bypass"}
+ * holds per-player bypass bits (bit {@code 1L << slot}). Interceptors read it right after
+ * resolving the player and skip the hook for bypassed slots. The consumer decides who
+ * bypasses — the bridge has no notion of permissions.
+ *
+ * A {@link ConcurrentHashMap}{@code <String, int[]>} under {@code "hyperprotect.bridge.policy"}
+ * holds per-world policy: one entry per slot, {@link #POLICY_ALLOW_ALL}, a fixed deny verdict
+ * (1-3), or {@link #POLICY_ASK_HOOK}. Interceptors read it right after resolving the world.
+ * Deny messages for {@code DENY_WITH_MESSAGE} policies live in a parallel
+ * {@code <String, String[]>} map under {@code "hyperprotect.bridge.policy_reason"}. Both
+ * arrays are replaced on every change, never mutated in place.
+ *
+ * A {@link ConcurrentHashMap}{@code <String, Set<Long>>} under {@code "hyperprotect.bridge.fireproof"}
+ * holds per-world fireproof sections (32³ blocks, keys from {@link #sectionKey}). Fire never
+ * spreads into a published section; the fire_spread hook is not called there.
  */
 public final class ProtectionBridge {
 
     private static final String BRIDGE_KEY = "hyperprotect.bridge";
-    private static final int SLOT_COUNT = 24;
+    private static final String EPOCH_KEY = "hyperprotect.bridge.epoch";
+    private static final String BYPASS_KEY = "hyperprotect.bridge.bypass";
+    private static final String POLICY_KEY = "hyperprotect.bridge.policy";
+    private static final String POLICY_REASON_KEY = "hyperprotect.bridge.policy_reason";
+    private static final String FIREPROOF_KEY = "hyperprotect.bridge.fireproof";
+    private static final int SLOT_COUNT = 32;
 
     // Slot indices — lowercase constants, same descriptive names as original hook keys
     public static final int block_break       = 0;
@@ -41,6 +71,19 @@ public final class ProtectionBridge {
     public static final int use               = 20;
     public static final int seat              = 21;
     public static final int respawn           = 22;
+    public static final int capabilities      = 23;  // Optional computeCapabilities hook
+    public static final int capability_handle = 24;  // Cached MethodHandle for CapabilityCache
+    public static final int claim_handle      = 25;  // Cached MethodHandle for ClaimGrid.lookup
+    public static final int region_handle     = 26;  // Cached MethodHandle for RegionIndex.intersection
+    public static final int fluid_spread      = 27;
+    public static final int spawn_order_handle = 28; // Cached MethodHandle for SpawnOrder.record
+
+    // World policy values — anything outside 0..3 also means "ask the hook"
+    public static final int POLICY_ASK_HOOK   = -1;
+    public static final int POLICY_ALLOW_ALL  = 0;
+
+    /** Packed respawn value meaning "no override" for {@code evaluateRespawnPacked}. */
+    public static final long NO_RESPAWN       = Long.MIN_VALUE;
 
     private ProtectionBridge() {}
 
@@ -51,6 +94,11 @@ public final class ProtectionBridge {
     public static AtomicReferenceArray<Object> init() {
         AtomicReferenceArray<Object> array = new AtomicReferenceArray<>(SLOT_COUNT);
         System.getProperties().put(BRIDGE_KEY, array);
+        System.getProperties().put(EPOCH_KEY, new AtomicLongArray(SLOT_COUNT));
+        System.getProperties().put(BYPASS_KEY, new ConcurrentHashMap<UUID, Long>());
+        System.getProperties().put(POLICY_KEY, new ConcurrentHashMap<String, int[]>());
+        System.getProperties().put(POLICY_REASON_KEY, new ConcurrentHashMap<String, String[]>());
+        System.getProperties().put(FIREPROOF_KEY, new ConcurrentHashMap<String, Set<Long>>());
         return array;
     }
 
@@ -63,12 +111,208 @@ public final class ProtectionBridge {
         return obj instanceof AtomicReferenceArray ? (AtomicReferenceArray<Object>) obj : null;
     }
 
+    /**
+     * Returns the per-slot epoch array, or null if not yet initialized.
+     */
+    public static AtomicLongArray epochs() {
+        Object obj = System.getProperties().get(EPOCH_KEY);
+        return obj instanceof AtomicLongArray ? (AtomicLongArray) obj : null;
+    }
+
+    /**
+     * Current epoch of the given slot (0 if the bridge is not initialized).
+     */
+    public static long epoch(int slot) {
+        AtomicLongArray arr = epochs();
+        return arr != null ? arr.get(slot) : 0L;
+    }
+
+    /**
+     * Bumps the epoch of the given slot, discarding every cached verdict for it.
+     * Call after claim, membership, or relation changes that affect that slot.
+     */
+    public static void invalidate(int slot) {
+        AtomicLongArray arr = epochs();
+        if (arr != null) arr.incrementAndGet(slot);
+    }
+
+    /**
+     * Bumps the epoch of every slot.
+     */
+    public static void invalidateAll() {
+        AtomicLongArray arr = epochs();
+        if (arr == null) return;
+        for (int i = 0; i < arr.length(); i++) {
+            arr.incrementAndGet(i);
+        }
+    }
+
+    /**
+     * Returns the per-player bypass map, or null if not yet initialized.
+     */
+    @SuppressWarnings("unchecked")
+    public static ConcurrentHashMap<UUID, Long> bypass() {
+        Object obj = System.getProperties().get(BYPASS_KEY);
+        return obj instanceof ConcurrentHashMap ? (ConcurrentHashMap<UUID, Long>) obj : null;
+    }
+
+    /**
+     * Sets or clears a single bypass bit for a player.
+     */
+    public static void setBypass(UUID playerUuid, int slot, boolean bypassed) {
+        ConcurrentHashMap<UUID, Long> map = bypass();
+        if (map == null || playerUuid == null) return;
+        long bit = 1L << slot;
+        map.compute(playerUuid, (uuid, mask) -> {
+            long current = mask != null ? mask : 0L;
+            long next = bypassed ? current | bit : current & ~bit;
+            return next != 0L ? next : null;
+        });
+    }
+
+    /**
+     * Replaces a player's whole bypass mask. A mask of 0 removes the player.
+     */
+    public static void setBypassMask(UUID playerUuid, long mask) {
+        ConcurrentHashMap<UUID, Long> map = bypass();
+        if (map == null || playerUuid == null) return;
+        if (mask != 0L) {
+            map.put(playerUuid, mask);
+        } else {
+            map.remove(playerUuid);
+        }
+    }
+
+    /**
+     * Whether the player bypasses the given slot.
+     */
+    public static boolean isBypassed(UUID playerUuid, int slot) {
+        ConcurrentHashMap<UUID, Long> map = bypass();
+        if (map == null || playerUuid == null) return false;
+        Long mask = map.get(playerUuid);
+        return mask != null && (mask & (1L << slot)) != 0;
+    }
+
+    /**
+     * Returns the per-world policy map, or null if not yet initialized.
+     */
+    @SuppressWarnings("unchecked")
+    public static ConcurrentHashMap<String, int[]> policies() {
+        Object obj = System.getProperties().get(POLICY_KEY);
+        return obj instanceof ConcurrentHashMap ? (ConcurrentHashMap<String, int[]>) obj : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentHashMap<String, String[]> policyReasons() {
+        Object obj = System.getProperties().get(POLICY_REASON_KEY);
+        return obj instanceof ConcurrentHashMap ? (ConcurrentHashMap<String, String[]>) obj : null;
+    }
+
+    /**
+     * Sets a world's policy for one slot.
+     *
+     * @param verdict {@link #POLICY_ALLOW_ALL}, a deny verdict (1-3), or {@link #POLICY_ASK_HOOK}
+     * @param reason  message sent for {@code DENY_WITH_MESSAGE}, or null
+     */
+    public static void setWorldPolicy(String worldName, int slot, int verdict, String reason) {
+        ConcurrentHashMap<String, int[]> map = policies();
+        ConcurrentHashMap<String, String[]> reasons = policyReasons();
+        if (map == null || reasons == null || worldName == null) return;
+        reasons.compute(worldName, (world, current) -> {
+            String[] next = current != null ? current.clone() : new String[SLOT_COUNT];
+            next[slot] = reason;
+            return next;
+        });
+        map.compute(worldName, (world, current) -> {
+            int[] next = current != null ? current.clone() : newPolicy();
+            next[slot] = verdict;
+            return next;
+        });
+    }
+
+    /**
+     * Removes every policy for a world; all slots go back to asking the hook.
+     */
+    public static void clearWorldPolicy(String worldName) {
+        ConcurrentHashMap<String, int[]> map = policies();
+        ConcurrentHashMap<String, String[]> reasons = policyReasons();
+        if (worldName == null) return;
+        if (map != null) map.remove(worldName);
+        if (reasons != null) reasons.remove(worldName);
+    }
+
+    /**
+     * A world's policy for the given slot, or {@link #POLICY_ASK_HOOK}.
+     */
+    public static int worldPolicy(String worldName, int slot) {
+        ConcurrentHashMap<String, int[]> map = policies();
+        if (map == null || worldName == null) return POLICY_ASK_HOOK;
+        int[] verdicts = map.get(worldName);
+        return verdicts != null ? verdicts[slot] : POLICY_ASK_HOOK;
+    }
+
+    private static int[] newPolicy() {
+        int[] verdicts = new int[SLOT_COUNT];
+        Arrays.fill(verdicts, POLICY_ASK_HOOK);
+        return verdicts;
+    }
+
+    /**
+     * Returns the per-world fireproof section map, or null if not yet initialized.
+     */
+    @SuppressWarnings("unchecked")
+    public static ConcurrentHashMap<String, Set<Long>> fireproof() {
+        Object obj = System.getProperties().get(FIREPROOF_KEY);
+        return obj instanceof ConcurrentHashMap ? (ConcurrentHashMap<String, Set<Long>>) obj : null;
+    }
+
+    /**
+     * Packs section coordinates (block coordinates shifted right by 5) into a fireproof key.
+     */
+    public static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return ((long) sectionX & 0x1FFFFFL) << 43 | ((long) sectionZ & 0x1FFFFFL) << 22
+                | (sectionY & 0x3FFFFF);
+    }
+
+    /**
+     * Marks or unmarks one section of a world as fireproof.
+     */
+    public static void setFireproof(String worldName, int sectionX, int sectionY, int sectionZ,
+                                    boolean fireproof) {
+        ConcurrentHashMap<String, Set<Long>> map = fireproof();
+        if (map == null || worldName == null) return;
+        long key = sectionKey(sectionX, sectionY, sectionZ);
+        if (fireproof) {
+            map.computeIfAbsent(worldName, world -> ConcurrentHashMap.newKeySet()).add(key);
+        } else {
+            Set<Long> sections = map.get(worldName);
+            if (sections != null) sections.remove(key);
+        }
+    }
+
+    /**
+     * Removes every fireproof section for a world.
+     */
+    public static void clearFireproof(String worldName) {
+        ConcurrentHashMap<String, Set<Long>> map = fireproof();
+        if (map != null && worldName != null) map.remove(worldName);
+    }
+
+    /**
+     * Packs a respawn block position for {@code evaluateRespawnPacked}: x and z in 26 signed
+     * bits each, y in 12 signed bits. The player respawns at the block's horizontal center.
+     */
+    public static long packRespawn(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFF);
+    }
+
     /**
      * Places a hook implementation at the given slot index.
      */
     public static void attach(int slot, Object impl) {
         AtomicReferenceArray<Object> arr = array();
         if (arr != null) arr.set(slot, impl);
+        invalidate(slot);
     }
 
     /**
@@ -77,6 +321,7 @@ public final class ProtectionBridge {
     public static void detach(int slot) {
         AtomicReferenceArray<Object> arr = array();
         if (arr != null) arr.set(slot, null);
+        invalidate(slot);
     }
 
     /**
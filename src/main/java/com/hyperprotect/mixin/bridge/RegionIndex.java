@@ -0,0 +1,78 @@
+package com.hyperprotect.mixin.bridge;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-world set of protected boxes, tested in bulk with {@link RegionKernel#intersection}.
+ *
+ * Consumers publish a world's boxes as a flat {@code int[]} in the {@link RegionKernel}
+ * layout; each call replaces the world's whole set. Publishing boxes for a world states
+ * that nothing outside them is protected: the explosion and paste interceptors use
+ * {@link #intersection} to skip the hook for blocks and chunks that touch no box.
+ * Worlds without boxes are evaluated as before.
+ *
+ * {@link #intersection(String, int[], int, long[])} is published to interceptors through
+ * the MethodHandle in {@link ProtectionBridge#region_handle}.
+ */
+public final class RegionIndex {
+
+    private static final ConcurrentHashMap<String, Regions> worlds = new ConcurrentHashMap<>();
+
+    /** Immutable box set. */
+    private record Regions(int[] boxes, int boxCount) {}
+
+    private RegionIndex() {}
+
+    /**
+     * Replaces a world's protected boxes. The array is copied.
+     *
+     * @param boxes {@link RegionKernel#BOX_INTS} ints per box, inclusive bounds
+     */
+    public static void setRegions(String worldName, int[] boxes) {
+        if (worldName == null) return;
+        if (boxes == null || boxes.length == 0) {
+            worlds.remove(worldName);
+            return;
+        }
+        if (boxes.length % RegionKernel.BOX_INTS != 0) {
+            throw new IllegalArgumentException("boxes length must be a multiple of " + RegionKernel.BOX_INTS);
+        }
+        int[] copy = boxes.clone();
+        worlds.put(worldName, new Regions(copy, copy.length / RegionKernel.BOX_INTS));
+    }
+
+    /**
+     * Removes every box for a world.
+     */
+    public static void clear(String worldName) {
+        if (worldName != null) worlds.remove(worldName);
+    }
+
+    /**
+     * Whether a world has any protected boxes.
+     */
+    public static boolean hasRegions(String worldName) {
+        return worldName != null && worlds.containsKey(worldName);
+    }
+
+    /**
+     * Bulk range overlap over a world's boxes; see {@link RegionKernel#intersection}.
+     *
+     * @return number of ranges touching a box, or -1 (all bits clear) when the world has
+     *         no boxes, meaning the caller must evaluate every range itself
+     */
+    public static int intersection(String worldName, int[] ranges, int count, long[] out) {
+        Regions regions = worldName != null ? worlds.get(worldName) : null;
+        if (regions == null) {
+            Arrays.fill(out, 0, RegionKernel.words(count), 0L);
+            return -1;
+        }
+        RegionKernel.intersection(ranges, count, regions.boxes(), regions.boxCount(), out);
+        int hits = 0;
+        for (int w = 0, n = RegionKernel.words(count); w < n; w++) {
+            hits += Long.bitCount(out[w]);
+        }
+        return hits;
+    }
+}
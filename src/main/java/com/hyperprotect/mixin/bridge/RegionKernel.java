@@ -0,0 +1,52 @@
+package com.hyperprotect.mixin.bridge;
+
+import java.util.Arrays;
+
+/**
+ * Batch overlap test of block ranges against axis-aligned boxes.
+ *
+ * Ranges and boxes are flat {@code int[]}s of {@value #BOX_INTS} ints each
+ * ({@code minX, minY, minZ, maxX, maxY, maxZ}, inclusive); a single block is a range with
+ * min = max. The result is a bitset with bit {@code i} set when range {@code i} overlaps at
+ * least one box. The explosion and paste interceptors use it through {@link RegionIndex}.
+ */
+public final class RegionKernel {
+
+    public static final int BOX_INTS = 6;
+
+    private RegionKernel() {}
+
+    /**
+     * Number of {@code long} words needed for a bitset over {@code count} ranges.
+     */
+    public static int words(int count) {
+        return (count + 63) >>> 6;
+    }
+
+    /**
+     * Sets bit {@code i} of {@code out} for every range {@code i < count} that overlaps any
+     * box, and clears it otherwise. {@code ranges} uses the box layout, {@value #BOX_INTS}
+     * inclusive ints per range.
+     */
+    public static void intersection(int[] ranges, int count, int[] boxes, int boxCount, long[] out) {
+        if (count * BOX_INTS > ranges.length) {
+            throw new IllegalArgumentException("count exceeds ranges array: " + count);
+        }
+        if (boxCount * BOX_INTS > boxes.length) {
+            throw new IllegalArgumentException("boxCount exceeds boxes array: " + boxCount);
+        }
+        Arrays.fill(out, 0, words(count), 0L);
+        if (count == 0 || boxCount == 0) return;
+
+        for (int i = 0, r = 0; i < count; i++, r += BOX_INTS) {
+            for (int b = 0, o = 0; b < boxCount; b++, o += BOX_INTS) {
+                if (ranges[r] <= boxes[o + 3] && ranges[r + 3] >= boxes[o]
+                        && ranges[r + 1] <= boxes[o + 4] && ranges[r + 4] >= boxes[o + 1]
+                        && ranges[r + 2] <= boxes[o + 5] && ranges[r + 5] >= boxes[o + 2]) {
+                    out[i >>> 6] |= 1L << (i & 63);
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.hyperprotect.mixin.bridge;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-world choice of whether the canSpawn gates run the server's {@code canSpawn()} or the
+ * mob_spawn hook first.
+ *
+ * Stats are an {@link AtomicLongArray} of {@value #LENGTH} counters per world, in a
+ * {@code ConcurrentHashMap<String, AtomicLongArray>} under the system property
+ * {@value #STATS_KEY}. For each candidate the gates read {@link #HOOK_FIRST}, bump
+ * {@link #CANDIDATES}, and afterwards report the candidate through {@link #record}, which
+ * they reach via the MethodHandle in {@link ProtectionBridge#spawn_order_handle}.
+ *
+ * Pass and deny rates only count candidates where that check ran first: the second check
+ * only sees what the first let through, so its rate would be conditional on the first.
+ * The gates run every {@value #EXPLORE_EVERY}th candidate in the other order, so both
+ * rates keep being measured over all candidates. Every {@value #DECIDE_EVERY} candidates
+ * the expected cost per candidate of both orders is compared, the cheaper one is kept
+ * (with 10% hysteresis), and the counters are halved so old load fades.
+ */
+public final class SpawnOrder {
+
+    public static final String STATS_KEY = "hyperprotect.spawn.stats";
+
+    // Counter layout
+    public static final int CAN_SPAWN_CALLS = 0;
+    public static final int CAN_SPAWN_NANOS = 1;
+    public static final int CAN_SPAWN_LEADS = 2;  // canSpawn ran first
+    public static final int CAN_SPAWN_PASSES = 3; // ... and returned TEST_OK
+    public static final int HOOK_CALLS = 4;
+    public static final int HOOK_NANOS = 5;
+    public static final int HOOK_LEADS = 6;       // hook ran first
+    public static final int HOOK_DENIES = 7;      // ... and denied
+    public static final int HOOK_FIRST = 8;       // current order, 1 = hook first
+    public static final int CANDIDATES = 9;
+    public static final int LENGTH = 10;
+
+    public static final int EXPLORE_EVERY = 32;
+    public static final int DECIDE_EVERY = 512;
+
+    private SpawnOrder() {}
+
+    /**
+     * A world's counters, created on first use; null for a null world name.
+     */
+    @SuppressWarnings("unchecked")
+    public static AtomicLongArray stats(String worldName) {
+        if (worldName == null) return null;
+        Object stats = System.getProperties().get(STATS_KEY);
+        if (stats == null) {
+            System.getProperties().putIfAbsent(STATS_KEY, new ConcurrentHashMap<String, AtomicLongArray>());
+            stats = System.getProperties().get(STATS_KEY);
+        }
+        return ((ConcurrentHashMap<String, AtomicLongArray>) stats)
+                .computeIfAbsent(worldName, k -> new AtomicLongArray(LENGTH));
+    }
+
+    /**
+     * Records one candidate; decides when {@link #CANDIDATES} reaches a multiple of
+     * {@value #DECIDE_EVERY}. A negative nanos value means that check did not run.
+     */
+    public static void record(AtomicLongArray stats, boolean hookFirst,
+                              long canSpawnNanos, boolean canSpawnPassed,
+                              long hookNanos, boolean hookDenied) {
+        if (canSpawnNanos >= 0) {
+            stats.incrementAndGet(CAN_SPAWN_CALLS);
+            stats.addAndGet(CAN_SPAWN_NANOS, canSpawnNanos);
+            if (!hookFirst) {
+                stats.incrementAndGet(CAN_SPAWN_LEADS);
+                if (canSpawnPassed) stats.incrementAndGet(CAN_SPAWN_PASSES);
+            }
+        }
+        if (hookNanos >= 0) {
+            stats.incrementAndGet(HOOK_CALLS);
+            stats.addAndGet(HOOK_NANOS, hookNanos);
+            if (hookFirst) {
+                stats.incrementAndGet(HOOK_LEADS);
+                if (hookDenied) stats.incrementAndGet(HOOK_DENIES);
+            }
+        }
+        if (stats.get(CANDIDATES) % DECIDE_EVERY == 0) decide(stats);
+    }
+
+    /**
+     * Keeps the cheaper order and halves the counters.
+     */
+    static void decide(AtomicLongArray stats) {
+        long canSpawnCalls = stats.get(CAN_SPAWN_CALLS);
+        long hookCalls = stats.get(HOOK_CALLS);
+        long canSpawnLeads = stats.get(CAN_SPAWN_LEADS);
+        long hookLeads = stats.get(HOOK_LEADS);
+        if (canSpawnCalls > 0 && hookCalls > 0 && canSpawnLeads > 0 && hookLeads > 0) {
+            double canSpawnCost = (double) stats.get(CAN_SPAWN_NANOS) / canSpawnCalls;
+            double hookCost = (double) stats.get(HOOK_NANOS) / hookCalls;
+            double canSpawnPass = (double) stats.get(CAN_SPAWN_PASSES) / canSpawnLeads;
+            double hookPass = 1.0 - (double) stats.get(HOOK_DENIES) / hookLeads;
+            double canSpawnFirst = canSpawnCost + canSpawnPass * hookCost;
+            double hookFirst = hookCost + hookPass * canSpawnCost;
+            if (stats.get(HOOK_FIRST) == 1) {
+                if (canSpawnFirst < hookFirst * 0.9) stats.set(HOOK_FIRST, 0);
+            } else if (hookFirst < canSpawnFirst * 0.9) {
+                stats.set(HOOK_FIRST, 1);
+            }
+        }
+        for (int i = CAN_SPAWN_CALLS; i <= HOOK_DENIES; i++) {
+            stats.getAndUpdate(i, v -> v >> 1);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import javax.annotation.Nullable;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -92,6 +93,65 @@ public class BlockPlaceInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
     @Unique
     private static Message formatReason(String reason) {
         if (reason == null || reason.isEmpty()) return null;
@@ -171,17 +231,38 @@ public class BlockPlaceInterceptor {
                                 ComponentAccessor<ChunkStore> chunkStore,
                                 ComponentAccessor<EntityStore> entityStore) {
         try {
-            Object[] hook = resolveHook();
+            World world = ((EntityStore) entityStore.getExternalData()).getWorld();
+            String worldName = world != null ? world.getName() : "";
+
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 18); // block_place = 18
+            boolean denyAll = policy == 1 || policy == 2 || policy == 3;
+            // Players only, like the hook
+            if (denyAll && entityStore.getComponent(ref, PlayerRef.getComponentType()) != null) {
+                if (policy == 1) {
+                    Player player = entityStore.getComponent(ref, Player.getComponentType());
+                    Message msg = formatReason(policyReason(worldName, 18));
+                    if (player != null && msg != null) player.sendMessage(msg);
+                }
+                InteractionContext ctx = capturedContext.get();
+                if (ctx != null) {
+                    ctx.getState().state = InteractionState.Failed;
+                }
+                return; // Skip placement
+            }
+
+            Object[] hook = policy == 0 || denyAll ? null : resolveHook();
             if (hook != null) {
                 PlayerRef playerRef = entityStore.getComponent(ref, PlayerRef.getComponentType());
-                if (playerRef != null) {
+                if (playerRef != null && !isBypassed(playerRef.getUuid(), 18)) { // block_place = 18
                     UUID playerUuid = playerRef.getUuid();
-                    World world = ((EntityStore) entityStore.getExternalData()).getWorld();
-                    String worldName = world != null ? world.getName() : "";
 
-                    int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                            hook[0], playerUuid, worldName,
-                            blockPosition.getX(), blockPosition.getY(), blockPosition.getZ());
+                    // Capability mask allows the whole chunk — skip the hook
+                    int verdict = hasCapability(18, playerUuid, worldName, blockPosition.getX(), blockPosition.getZ())
+                            ? 0
+                            : (int) ((MethodHandle) hook[1]).invoke(
+                                    hook[0], playerUuid, worldName,
+                                    blockPosition.getX(), blockPosition.getY(), blockPosition.getZ());
 
                     if (verdict == 1 || verdict == 2 || verdict == 3) {
                         // Denied — send message if DENY_WITH_MESSAGE
@@ -3,10 +3,13 @@ package com.hyperprotect.mixin.intercept.building;
 import com.hypixel.hytale.component.ComponentAccessor;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.asset.type.item.config.ItemTool;
 import com.hypixel.hytale.server.core.entity.LivingEntity;
+import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.modules.interaction.BlockHarvestUtils;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
@@ -20,11 +23,16 @@ import javax.annotation.Nullable;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Intercepts explosion block damage in BlockHarvestUtils.performBlockDamage().
+ * Intercepts block damage in BlockHarvestUtils.performBlockDamage().
  * When the damage source has no entity (entity == null AND ref == null), it's an explosion.
  *
  * <p>Hook contract (explosion slot):
@@ -34,6 +42,25 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  * </pre>
  *
  * <p>No player context — explosions are environmental. No messaging needed.
+ *
+ * <p>Optional, for bulk filtering:
+ * <pre>
+ *   int evaluateExplosionChunk(World world, int chunkX, int chunkZ)
+ *     0=ALLOW whole chunk, 1-3=DENY whole chunk, anything else=MIXED (ask per block)
+ * </pre>
+ * Verdicts are collected per world for the current tick: one chunk-level answer per chunk,
+ * and in mixed chunks one per-block answer per position, so overlapping blasts in the same
+ * tick reuse them instead of calling the hook again. The chunk answer is asked when the
+ * first block of a blast in that chunk is damaged; the explosion's candidate set and AABB
+ * are not visible to this redirect, so there is no whole-explosion check.
+ *
+ * <p>If the consumer published protected boxes for the world to {@code RegionIndex}
+ * (slot 26), blocks outside every box are allowed without calling the hook.
+ *
+ * <p>When a player is the source, the block_break hook ({@code evaluate}/{@code fetchDenyReason},
+ * same contract as {@link HarvestInterceptor}) is asked once per mining target and the verdict
+ * is cached until the player targets another block or the block_break epoch changes. Denied
+ * blocks never accumulate damage; the deny message is sent once per target.
  */
 @Mixin(BlockHarvestUtils.class)
 public class ExplosionInterceptor {
@@ -44,8 +71,198 @@ public class ExplosionInterceptor {
     @Unique
     private static volatile Object[] hookCache;
 
+    @Unique
+    private static volatile Object[] breakHookCache;
+
+    // --- Per-tick explosion verdicts ---
+
+    /**
+     * Explosion verdicts for one world during one tick. Chunk-level answers are kept per
+     * chunk column; per-block answers in mixed chunks are kept as two bitsets per 32³
+     * section (evaluated, denied). Both tables are open-addressed on primitive keys, and the
+     * last chunk looked up is remembered, since a blast hits its blocks chunk by chunk.
+     * Expires through {@code World.execute()} at the next tick.
+     */
+    @Unique
+    private static final class ExplosionBurst {
+        static final int MIXED = -1;
+        static final int UNSET = Integer.MIN_VALUE;
+        static final int SECTION_WORDS = (32 * 32 * 32) >>> 6;
+
+        public final Object impl;
+        public final long epoch;
+        long[] chunkKeys = new long[16];
+        int[] chunkValues = newValues(16);
+        int chunkCount;
+        long[] sectionKeys = new long[16];
+        long[][] sectionBits = new long[16][];
+        int sectionCount;
+        long lastChunkKey;
+        int lastChunkVerdict = UNSET;
+        public volatile boolean expired;
+        public final Runnable expireTask = () -> expired = true;
+
+        public ExplosionBurst(Object impl, long epoch) {
+            this.impl = impl;
+            this.epoch = epoch;
+        }
+
+        static long chunkKey(int chunkX, int chunkZ) {
+            return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        }
+
+        static long sectionKey(int x, int y, int z) {
+            return ((long) (x >> 5) & 0x1FFFFFL) << 43 | ((long) (z >> 5) & 0x1FFFFFL) << 22
+                    | ((y >> 5) & 0x3FFFFF);
+        }
+
+        static int bitIndex(int x, int y, int z) {
+            return ((y & 31) << 10) | ((z & 31) << 5) | (x & 31);
+        }
+
+        static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        static int[] newValues(int capacity) {
+            int[] values = new int[capacity];
+            Arrays.fill(values, UNSET);
+            return values;
+        }
+
+        /** Chunk-level verdict, or UNSET if not evaluated yet this tick. */
+        public synchronized int chunkVerdict(int chunkX, int chunkZ) {
+            long key = chunkKey(chunkX, chunkZ);
+            if (lastChunkVerdict != UNSET && lastChunkKey == key) return lastChunkVerdict;
+            int mask = chunkKeys.length - 1;
+            for (int i = slot(key, mask); chunkValues[i] != UNSET; i = (i + 1) & mask) {
+                if (chunkKeys[i] == key) {
+                    lastChunkKey = key;
+                    lastChunkVerdict = chunkValues[i];
+                    return lastChunkVerdict;
+                }
+            }
+            return UNSET;
+        }
+
+        public synchronized void putChunkVerdict(int chunkX, int chunkZ, int verdict) {
+            long key = chunkKey(chunkX, chunkZ);
+            if (chunkCount * 2 >= chunkKeys.length) {
+                long[] keys = chunkKeys;
+                int[] values = chunkValues;
+                chunkKeys = new long[keys.length * 2];
+                chunkValues = newValues(keys.length * 2);
+                chunkCount = 0;
+                for (int i = 0; i < keys.length; i++) {
+                    if (values[i] != UNSET) insertChunk(keys[i], values[i]);
+                }
+            }
+            insertChunk(key, verdict);
+            lastChunkKey = key;
+            lastChunkVerdict = verdict;
+        }
+
+        private void insertChunk(long key, int verdict) {
+            int mask = chunkKeys.length - 1;
+            int i = slot(key, mask);
+            while (chunkValues[i] != UNSET && chunkKeys[i] != key) i = (i + 1) & mask;
+            if (chunkValues[i] == UNSET) chunkCount++;
+            chunkKeys[i] = key;
+            chunkValues[i] = verdict;
+        }
+
+        private long[] section(long key) {
+            int mask = sectionKeys.length - 1;
+            for (int i = slot(key, mask); sectionBits[i] != null; i = (i + 1) & mask) {
+                if (sectionKeys[i] == key) return sectionBits[i];
+            }
+            return null;
+        }
+
+        /** 0 if allowed, 2 if denied, MIXED if the position was not evaluated yet this tick. */
+        public synchronized int blockVerdict(int x, int y, int z) {
+            long[] bits = section(sectionKey(x, y, z));
+            if (bits == null) return MIXED;
+            int i = bitIndex(x, y, z);
+            if ((bits[i >>> 6] & (1L << i)) == 0) return MIXED;
+            return (bits[SECTION_WORDS + (i >>> 6)] & (1L << i)) != 0 ? 2 : 0;
+        }
+
+        public synchronized void putBlockVerdict(int x, int y, int z, boolean denied) {
+            long key = sectionKey(x, y, z);
+            long[] bits = section(key);
+            if (bits == null) {
+                if (sectionCount * 2 >= sectionKeys.length) {
+                    long[] keys = sectionKeys;
+                    long[][] values = sectionBits;
+                    sectionKeys = new long[keys.length * 2];
+                    sectionBits = new long[keys.length * 2][];
+                    for (int i = 0; i < keys.length; i++) {
+                        if (values[i] != null) insertSection(keys[i], values[i]);
+                    }
+                }
+                bits = new long[SECTION_WORDS * 2];
+                insertSection(key, bits);
+                sectionCount++;
+            }
+            int i = bitIndex(x, y, z);
+            bits[i >>> 6] |= 1L << i;
+            if (denied) bits[SECTION_WORDS + (i >>> 6)] |= 1L << i;
+        }
+
+        private void insertSection(long key, long[] bits) {
+            int mask = sectionKeys.length - 1;
+            int i = slot(key, mask);
+            while (sectionBits[i] != null) i = (i + 1) & mask;
+            sectionKeys[i] = key;
+            sectionBits[i] = bits;
+        }
+    }
+
+    @Unique
+    private static final ConcurrentHashMap<String, ExplosionBurst> explosionBursts = new ConcurrentHashMap<>();
+
+    /** Single-block range and result word for the region_handle call, reused per thread. */
+    @Unique
+    private static final ThreadLocal<int[]> regionRange = ThreadLocal.withInitial(() -> new int[6]);
+
+    @Unique
+    private static final ThreadLocal<long[]> regionBits = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Unique
+    private static final MethodType EVALUATE_CHUNK_TYPE = MethodType.methodType(
+            int.class, World.class, int.class, int.class);
+
+    /** Last mining target and its block_break verdict, one per player. */
+    @Unique
+    public record MiningVerdict(Object impl, long epoch, String worldName,
+                                 int x, int y, int z, int verdict) {
+        public boolean matches(Object impl, long epoch, String worldName, int x, int y, int z) {
+            return this.impl == impl && this.epoch == epoch
+                    && this.x == x && this.y == y && this.z == z
+                    && this.worldName.equals(worldName);
+        }
+    }
+
+    @Unique
+    private static final ConcurrentHashMap<UUID, MiningVerdict> miningVerdicts = new ConcurrentHashMap<>();
+
+    /** Entries are cheap to recompute; clear the map rather than track disconnects. */
+    @Unique
+    private static final int MAX_MINING_ENTRIES = 1024;
+
+    @Unique
+    private static final MethodType EVALUATE_TYPE = MethodType.methodType(
+            int.class, UUID.class, String.class, int.class, int.class, int.class);
+
+    @Unique
+    private static final MethodType FETCH_REASON_TYPE = MethodType.methodType(
+            String.class, UUID.class, String.class, int.class, int.class, int.class);
+
     static {
         System.setProperty("hyperprotect.intercept.explosion", "true");
+        System.setProperty("hyperprotect.intercept.block_damage", "true");
     }
 
     // --- Helper methods ---
@@ -71,6 +288,112 @@ public class ExplosionInterceptor {
         }
     }
 
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Current epoch of a slot, or 0 if the bridge is not initialized.
+     */
+    @Unique
+    private static long epoch(int slot) {
+        Object epochs = System.getProperties().get("hyperprotect.bridge.epoch");
+        return epochs instanceof AtomicLongArray arr ? arr.get(slot) : 0L;
+    }
+
+    @Unique
+    private static Message formatReason(String reason) {
+        if (reason == null || reason.isEmpty()) return null;
+        Object handle = getBridge(15); // format_handle = 15
+        if (handle instanceof MethodHandle mh) {
+            try { return (Message) mh.invoke(reason); } catch (Throwable ignored) {}
+        }
+        return Message.raw(reason);
+    }
+
+    @Unique
+    private static Object[] resolveBreakHook() {
+        Object[] cached = breakHookCache;
+        Object impl = getBridge(0); // block_break = 0
+        if (impl == null) {
+            breakHookCache = null;
+            return null;
+        }
+        if (cached != null && cached[0] == impl) {
+            return cached;
+        }
+        try {
+            MethodHandle primary = MethodHandles.publicLookup().findVirtual(
+                impl.getClass(), "evaluate", EVALUATE_TYPE);
+            MethodHandle secondary = null;
+            try {
+                secondary = MethodHandles.publicLookup().findVirtual(
+                    impl.getClass(), "fetchDenyReason", FETCH_REASON_TYPE);
+            } catch (NoSuchMethodException ignored) {}
+            cached = new Object[] { impl, primary, secondary };
+            breakHookCache = cached;
+            return cached;
+        } catch (Exception e) {
+            reportFault(e);
+            return null;
+        }
+    }
+
     @Redirect(
         method = "performBlockDamage(Lcom/hypixel/hytale/math/vector/Vector3i;Lcom/hypixel/hytale/server/core/inventory/ItemStack;Lcom/hypixel/hytale/server/core/asset/type/item/config/ItemTool;FILcom/hypixel/hytale/component/Ref;Lcom/hypixel/hytale/component/CommandBuffer;Lcom/hypixel/hytale/component/ComponentAccessor;)Z",
         at = @At(
@@ -92,7 +415,7 @@ public class ExplosionInterceptor {
             @Nonnull ComponentAccessor<EntityStore> entityStore,
             @Nonnull ComponentAccessor<ChunkStore> chunkStore) {
 
-        // Only intercept explosions (no entity source)
+        // Explosions (no entity source)
         if (entity == null && ref == null) {
             try {
                 int verdict = queryExplosionVerdict(entityStore, targetBlockPos);
@@ -103,6 +426,16 @@ public class ExplosionInterceptor {
                 reportFault(t);
                 // Fail-open: allow explosion
             }
+        } else if (ref != null) {
+            // Entity-sourced damage — stop players before any damage accumulates
+            try {
+                if (queryMiningVerdict(ref, entityStore, targetBlockPos) != 0) {
+                    return false;
+                }
+            } catch (Throwable t) {
+                reportFault(t);
+                // Fail-open: allow mining
+            }
         }
 
         return BlockHarvestUtils.performBlockDamage(
@@ -111,6 +444,81 @@ public class ExplosionInterceptor {
                 entityStore, chunkStore);
     }
 
+    /**
+     * block_break verdict for a player mining the given block, cached per player for as
+     * long as they keep mining the same block. Non-players are allowed.
+     *
+     * @return verdict int: 0=ALLOW, non-zero=DENY
+     */
+    @Unique
+    private static int queryMiningVerdict(Ref<EntityStore> ref, ComponentAccessor<EntityStore> entityStore,
+                                          Vector3i targetBlockPos) throws Throwable {
+        World world = ((EntityStore) entityStore.getExternalData()).getWorld();
+        if (world == null) return 0;
+        String worldName = world.getName();
+
+        // Only players are gated here — entity mining never went through block_break
+        PlayerRef playerRef = entityStore.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef == null) return 0; // Not a player
+
+        UUID playerUuid = playerRef.getUuid();
+        int x = targetBlockPos.getX();
+        int y = targetBlockPos.getY();
+        int z = targetBlockPos.getZ();
+        long epoch = epoch(0);
+
+        // World policy decides without the hook. The denied block never takes damage, so
+        // it is never removed and the removal gate never runs: send the message here, once
+        // per mining target.
+        int policy = worldPolicy(worldName, 0); // block_break = 0
+        if (policy == 0) return 0;
+        if (policy >= 1 && policy <= 3) {
+            MiningVerdict cached = miningVerdicts.get(playerUuid);
+            if (cached == null || cached.verdict() != policy
+                    || !cached.matches(null, epoch, worldName, x, y, z)) {
+                if (miningVerdicts.size() >= MAX_MINING_ENTRIES) miningVerdicts.clear();
+                miningVerdicts.put(playerUuid, new MiningVerdict(null, epoch, worldName, x, y, z, policy));
+                if (policy == 1) {
+                    Player player = entityStore.getComponent(ref, Player.getComponentType());
+                    Message msg = formatReason(policyReason(worldName, 0));
+                    if (player != null && msg != null) player.sendMessage(msg);
+                }
+            }
+            return policy;
+        }
+
+        Object[] hook = resolveBreakHook();
+        if (hook == null) return 0;
+        if (isBypassed(playerUuid, 0)) return 0;
+
+        MiningVerdict cached = miningVerdicts.get(playerUuid);
+        if (cached != null && cached.matches(hook[0], epoch, worldName, x, y, z)) {
+            return cached.verdict();
+        }
+
+        // New mining target — ask once
+        int verdict = hasCapability(0, playerUuid, worldName, x, z)
+                ? 0
+                : (int) ((MethodHandle) hook[1]).invoke(hook[0], playerUuid, worldName, x, y, z);
+        if (verdict < 0 || verdict > 3) verdict = 0; // Fail-open for negative/unknown values
+
+        if (miningVerdicts.size() >= MAX_MINING_ENTRIES) miningVerdicts.clear();
+        miningVerdicts.put(playerUuid, new MiningVerdict(hook[0], epoch, worldName, x, y, z, verdict));
+
+        if (verdict == 1 && hook[2] != null) {
+            // A failed reason fetch must not turn the deny into an allow
+            try {
+                String reason = (String) ((MethodHandle) hook[2]).invoke(hook[0], playerUuid, worldName, x, y, z);
+                Player player = entityStore.getComponent(ref, Player.getComponentType());
+                Message msg = formatReason(reason);
+                if (player != null && msg != null) player.sendMessage(msg);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return verdict;
+    }
+
     /**
      * Evaluates whether an explosion at the given block position should be allowed.
      *
@@ -119,6 +527,13 @@ public class ExplosionInterceptor {
     @Unique
     private static int queryExplosionVerdict(ComponentAccessor<EntityStore> entityStore,
                                              Vector3i targetBlockPos) throws Throwable {
+        World world = ((EntityStore) entityStore.getExternalData()).getWorld();
+        if (world == null) return 0;
+
+        // World policy decides without the hook
+        int policy = worldPolicy(world.getName(), 1); // explosion = 1
+        if (policy >= 0 && policy <= 3) return policy;
+
         Object[] cached = hookCache;
 
         // Re-resolve if hook changed or not yet cached
@@ -129,7 +544,12 @@ public class ExplosionInterceptor {
                 MethodHandle primary = MethodHandles.publicLookup().findVirtual(
                     current.getClass(), "evaluateExplosion",
                     MethodType.methodType(int.class, World.class, int.class, int.class, int.class));
-                cached = new Object[] { current, primary };
+                MethodHandle chunk = null;
+                try {
+                    chunk = MethodHandles.publicLookup().findVirtual(
+                        current.getClass(), "evaluateExplosionChunk", EVALUATE_CHUNK_TYPE);
+                } catch (NoSuchMethodException ignored) {}
+                cached = new Object[] { current, primary, chunk };
                 hookCache = cached;
             } catch (Exception e) {
                 reportFault(e);
@@ -137,12 +557,88 @@ public class ExplosionInterceptor {
             }
         }
 
-        World world = ((EntityStore) entityStore.getExternalData()).getWorld();
-        if (world == null) return 0;
+        int x = targetBlockPos.getX();
+        int y = targetBlockPos.getY();
+        int z = targetBlockPos.getZ();
 
-        int verdict = (int) ((MethodHandle) cached[1]).invoke(
-                cached[0], world,
-                targetBlockPos.getX(), targetBlockPos.getY(), targetBlockPos.getZ());
+        // Outside every published protected box — nothing to ask
+        if (regionHit(world.getName(), x, y, z) == 0) return 0;
+
+        ExplosionBurst burst = currentBurst(world, cached[0]);
+        if (burst == null) {
+            return evaluateBlock(cached, world, x, y, z);
+        }
+
+        // Whole chunk first — one hook call covers every block of the blast in it
+        int chunkX = x >> 5;
+        int chunkZ = z >> 5;
+        int chunkVerdict = burst.chunkVerdict(chunkX, chunkZ);
+        if (chunkVerdict == ExplosionBurst.UNSET) {
+            int v = ExplosionBurst.MIXED;
+            if (cached[2] != null) {
+                v = (int) ((MethodHandle) cached[2]).invoke(cached[0], world, chunkX, chunkZ);
+                v = v == 0 ? 0 : (v >= 1 && v <= 3 ? 2 : ExplosionBurst.MIXED);
+            }
+            chunkVerdict = v;
+            burst.putChunkVerdict(chunkX, chunkZ, v);
+        }
+        if (chunkVerdict != ExplosionBurst.MIXED) return chunkVerdict;
+
+        // Mixed chunk — per block, once per position this tick
+        int verdict = burst.blockVerdict(x, y, z);
+        if (verdict == ExplosionBurst.MIXED) {
+            verdict = evaluateBlock(cached, world, x, y, z);
+            burst.putBlockVerdict(x, y, z, verdict != 0);
+        }
+        return verdict;
+    }
+
+    /**
+     * This tick's verdict set for a world, started on first use. Returns null (no caching)
+     * if the expiry task cannot be scheduled.
+     */
+    @Unique
+    private static ExplosionBurst currentBurst(World world, Object impl) {
+        long epoch = epoch(1); // explosion = 1
+        ExplosionBurst burst = explosionBursts.get(world.getName());
+        if (burst != null && !burst.expired && burst.impl == impl && burst.epoch == epoch) {
+            return burst;
+        }
+        ExplosionBurst fresh = new ExplosionBurst(impl, epoch);
+        try {
+            world.execute(fresh.expireTask);
+        } catch (Exception e) {
+            explosionBursts.remove(world.getName());
+            return null;
+        }
+        explosionBursts.put(world.getName(), fresh);
+        return fresh;
+    }
+
+    /**
+     * Whether the block lies in one of the world's {@code RegionIndex} boxes: 1 inside,
+     * 0 outside, -1 if the world has no boxes or the handle is unavailable.
+     */
+    @Unique
+    private static int regionHit(String worldName, int x, int y, int z) {
+        Object handle = getBridge(26); // region_handle = 26
+        if (!(handle instanceof MethodHandle mh)) return -1;
+        int[] range = regionRange.get();
+        range[0] = x; range[1] = y; range[2] = z;
+        range[3] = x; range[4] = y; range[5] = z;
+        long[] bits = regionBits.get();
+        try {
+            int hits = (int) mh.invoke(worldName, range, 1, bits);
+            return hits < 0 ? -1 : (int) (bits[0] & 1L);
+        } catch (Throwable t) {
+            reportFault(t);
+            return -1;
+        }
+    }
+
+    @Unique
+    private static int evaluateBlock(Object[] cached, World world, int x, int y, int z) throws Throwable {
+        int verdict = (int) ((MethodHandle) cached[1]).invoke(cached[0], world, x, y, z);
 
         // Fail-open for negative/unknown values
         return verdict < 0 ? 0 : verdict;
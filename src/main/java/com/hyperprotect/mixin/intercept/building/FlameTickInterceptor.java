@@ -15,11 +15,16 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Intercepts fire fluid spreading in {@code FluidTicker.process()}.
+ * Intercepts fire and fluid spreading in {@code FluidTicker.process()}.
  *
  * <p>When the fire hook returns a deny verdict, the fire fluid is removed and the
  * tick returns {@link BlockTickStrategy#SLEEP} to halt propagation.
@@ -27,10 +32,32 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  * <p>Hook contract (fire_spread slot):
  * <ul>
  *   <li>Primary: {@code int evaluateFlame(String, int, int, int)} -- returns verdict</li>
+ *   <li>Optional: {@code int evaluateFlameSection(String, int, int, int)} -- verdict for a whole
+ *       32³ section (section coordinates); 0=ALLOW, 1-3=fireproof, anything else=ask per block.
+ *       Answers are cached per section until the hook or the fire_spread epoch changes.</li>
  * </ul>
  *
+ * <p>Sections the consumer publishes under {@code hyperprotect.bridge.fireproof} deny without
+ * calling the hook. Fire ticker classification is cached per ticker class.
+ *
  * <p>Verdict protocol: 0=ALLOW (let fire spread), any positive=DENY (block fire spread, no messaging).
  * Negative/unknown values = ALLOW (fail-open).
+ *
+ * <p>Non-fire fluids go to the fluid_spread slot, only when the ticking block sits on a chunk
+ * edge and could flow into the neighbouring chunk:
+ * <ul>
+ *   <li>Primary: {@code int evaluateFluidSpread(String, int fluidId, int fromX, int fromY, int fromZ,
+ *       int toX, int toY, int toZ)} -- returns verdict</li>
+ * </ul>
+ * A deny blocks only the neighbour across the denied border: the block still spreads, and the
+ * neighbour's fluid is put back afterwards. If every flow the spread made was put back, the
+ * tick returns {@link BlockTickStrategy#SLEEP}, so the block settles against the denied
+ * border instead of flowing and being reverted every tick. When the neighbour's section
+ * cannot be read (no {@code getFluidSection}/{@code getFluidId}/{@code getFluidLevel} on this
+ * server build) the tick returns {@link BlockTickStrategy#SLEEP} instead. Verdicts are cached per fluid and claim pair
+ * when the {@code ClaimGrid} knows either side's claim, otherwise per fluid, target chunk,
+ * section height and direction; flows between two chunks of the same claim are allowed without
+ * asking the hook.
  */
 @Mixin(FluidTicker.class)
 public abstract class FlameTickInterceptor {
@@ -49,6 +76,66 @@ public abstract class FlameTickInterceptor {
     @Unique
     private static volatile Object[] hookCache;
 
+    // --- Fire ticker classification, computed once per ticker class ---
+
+    @Unique
+    private static final class FlameTickerTypes extends ClassValue<Boolean> {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.getSimpleName().contains("Fire");
+        }
+    }
+
+    @Unique
+    private static final FlameTickerTypes flameTickers = new FlameTickerTypes();
+
+    // --- Section verdicts from evaluateFlameSection ---
+
+    /**
+     * Cached section verdicts for one world, valid for one hook instance and epoch.
+     */
+    @Unique
+    private static final class SectionVerdicts {
+        static final int MIXED = -1;
+        static final int MAX_ENTRIES = 4096;
+
+        public final Object impl;
+        public final long epoch;
+        public final ConcurrentHashMap<Long, Integer> verdicts = new ConcurrentHashMap<>();
+
+        public SectionVerdicts(Object impl, long epoch) {
+            this.impl = impl;
+            this.epoch = epoch;
+        }
+    }
+
+    @Unique
+    private static final ConcurrentHashMap<String, SectionVerdicts> sectionVerdicts = new ConcurrentHashMap<>();
+
+    @Unique
+    private static final ConcurrentHashMap<String, SectionVerdicts> fluidVerdicts = new ConcurrentHashMap<>();
+
+    @Unique
+    private static volatile Object[] fluidHookCache;
+
+    /** {getFluidSection, getFluidId, getFluidLevel}, or empty if this server build lacks them. */
+    @Unique
+    private static volatile MethodHandle[] neighbourHandles;
+
+    /**
+     * Per-thread scratch for neighbours held across one spread: section, id and level per
+     * direction (0-3 horizontal as in {@link #queryFluidCrossing}, 4 = below).
+     */
+    @Unique
+    private static final ThreadLocal<Object[]> heldSections = ThreadLocal.withInitial(() -> new Object[5]);
+
+    @Unique
+    private static final ThreadLocal<int[]> heldFluids = ThreadLocal.withInitial(() -> new int[10]);
+
+    @Unique
+    private static final MethodType EVALUATE_FLUID_TYPE = MethodType.methodType(
+            int.class, String.class, int.class, int.class, int.class, int.class, int.class, int.class, int.class);
+
     // --- MethodType for hook resolution ---
 
     @Unique
@@ -57,6 +144,7 @@ public abstract class FlameTickInterceptor {
 
     static {
         System.setProperty("hyperprotect.intercept.fire_spread", "true");
+        System.setProperty("hyperprotect.intercept.fluid_spread", "true");
     }
 
     @Shadow
@@ -88,6 +176,49 @@ public abstract class FlameTickInterceptor {
         }
     }
 
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Current epoch of a slot, or 0 if the bridge is not initialized.
+     */
+    @Unique
+    private static long epoch(int slot) {
+        Object epochs = System.getProperties().get("hyperprotect.bridge.epoch");
+        return epochs instanceof AtomicLongArray arr ? arr.get(slot) : 0L;
+    }
+
+    /**
+     * Packs section coordinates; must match {@code ProtectionBridge.sectionKey}.
+     */
+    @Unique
+    private static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return ((long) sectionX & 0x1FFFFFL) << 43 | ((long) sectionZ & 0x1FFFFFL) << 22
+                | (sectionY & 0x3FFFFF);
+    }
+
+    /**
+     * Whether the consumer has published this section as fireproof.
+     */
+    @Unique
+    private static boolean isFireproof(String worldName, long sectionKey) {
+        Object fireproof = System.getProperties().get("hyperprotect.bridge.fireproof");
+        return fireproof instanceof Map<?, ?> map && map.get(worldName) instanceof Set<?> sections
+                && sections.contains(sectionKey);
+    }
+
     // --- Hook resolution ---
 
     @Unique
@@ -104,7 +235,12 @@ public abstract class FlameTickInterceptor {
         try {
             MethodHandle primary = MethodHandles.publicLookup().findVirtual(
                 impl.getClass(), "evaluateFlame", EVALUATE_TYPE);
-            cached = new Object[] { impl, primary };
+            MethodHandle section = null;
+            try {
+                section = MethodHandles.publicLookup().findVirtual(
+                    impl.getClass(), "evaluateFlameSection", EVALUATE_TYPE);
+            } catch (NoSuchMethodException ignored) {}
+            cached = new Object[] { impl, primary, section };
             hookCache = cached;
             return cached;
         } catch (Exception e) {
@@ -113,6 +249,29 @@ public abstract class FlameTickInterceptor {
         }
     }
 
+    @Unique
+    private static Object[] resolveFluidHook() {
+        Object[] cached = fluidHookCache;
+        Object impl = getBridge(27); // fluid_spread = 27
+        if (impl == null) {
+            fluidHookCache = null;
+            return null;
+        }
+        if (cached != null && cached[0] == impl) {
+            return cached;
+        }
+        try {
+            MethodHandle primary = MethodHandles.publicLookup().findVirtual(
+                impl.getClass(), "evaluateFluidSpread", EVALUATE_FLUID_TYPE);
+            cached = new Object[] { impl, primary };
+            fluidHookCache = cached;
+            return cached;
+        } catch (Exception e) {
+            reportFault(e);
+            return null;
+        }
+    }
+
     // --- Injection point ---
 
     @Redirect(
@@ -128,9 +287,31 @@ public abstract class FlameTickInterceptor {
                                        BlockSection blockSection, Fluid fluid, int fluidId,
                                        byte fluidLevel, int worldX, int worldY, int worldZ) {
 
-        if (isFlameSource(self) && queryFlameVerdict(world, worldX, worldY, worldZ)) {
-            fluidSection.setFluid(worldX, worldY, worldZ, 0, (byte) 0);
-            return BlockTickStrategy.SLEEP;
+        if (isFlameSource(self)) {
+            if (queryFlameVerdict(world, worldX, worldY, worldZ)) {
+                fluidSection.setFluid(worldX, worldY, worldZ, 0, (byte) 0);
+                return BlockTickStrategy.SLEEP;
+            }
+        } else if (isChunkEdge(worldX, worldZ)) {
+            int denied = queryFluidVerdict(world, fluidId, worldX, worldY, worldZ);
+            if (denied != 0) {
+                // Spread normally, then put back whatever crossed a denied border
+                if (!holdNeighbours(accessor, denied, worldX, worldY, worldZ)) {
+                    return BlockTickStrategy.SLEEP; // Neighbours unreadable — hold the whole block
+                }
+                BlockTickStrategy strategy = null;
+                try {
+                    strategy = this.spread(world, tick, accessor, fluidSection, blockSection,
+                            fluid, fluidId, fluidLevel, worldX, worldY, worldZ);
+                } finally {
+                    // Only denied flow happened and it was undone: the next tick would repeat
+                    // it, so let the block settle against the denied border
+                    if (restoreNeighbours(denied, worldX, worldY, worldZ) && strategy != null) {
+                        strategy = BlockTickStrategy.SLEEP;
+                    }
+                }
+                return strategy;
+            }
         }
 
         return this.spread(world, tick, accessor, fluidSection, blockSection,
@@ -139,11 +320,12 @@ public abstract class FlameTickInterceptor {
 
     /**
      * Checks if the ticker is a fire-type fluid ticker.
-     * Uses {@code contains("Fire")} for broader matching than exact class name equality.
+     * Uses {@code contains("Fire")} for broader matching than exact class name equality;
+     * the result is cached per ticker class.
      */
     @Unique
     private static boolean isFlameSource(FluidTicker ticker) {
-        return ticker.getClass().getSimpleName().contains("Fire");
+        return flameTickers.get(ticker.getClass());
     }
 
     /**
@@ -154,10 +336,27 @@ public abstract class FlameTickInterceptor {
     @Unique
     private static boolean queryFlameVerdict(World world, int x, int y, int z) {
         try {
+            String worldName = world.getName();
+
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 2); // fire_spread = 2
+            if (policy >= ALLOW && policy <= 3) return policy > ALLOW;
+
+            // Published fireproof sections short-circuit before any hook dispatch
+            int sectionX = x >> 5;
+            int sectionY = y >> 5;
+            int sectionZ = z >> 5;
+            long key = sectionKey(sectionX, sectionY, sectionZ);
+            if (isFireproof(worldName, key)) return true;
+
             Object[] hook = resolveHook();
             if (hook == null) return false; // No hook = allow (fail-open)
 
-            String worldName = world.getName();
+            if (hook[2] != null) {
+                int sectionVerdict = querySectionVerdict(hook, worldName, key, sectionX, sectionY, sectionZ);
+                if (sectionVerdict != SectionVerdicts.MIXED) return sectionVerdict > ALLOW;
+            }
+
             int verdict = (int) ((MethodHandle) hook[1]).invoke(hook[0], worldName, x, y, z);
 
             // Any positive verdict = block fire spread
@@ -167,4 +366,235 @@ public abstract class FlameTickInterceptor {
             return false; // Fail-open
         }
     }
+
+    /**
+     * Whether a block column touches a chunk border, i.e. horizontal flow could leave the chunk.
+     */
+    @Unique
+    private static boolean isChunkEdge(int x, int z) {
+        int localX = x & 31;
+        int localZ = z & 31;
+        return localX == 0 || localX == 31 || localZ == 0 || localZ == 31;
+    }
+
+    /**
+     * Queries the fluid spread hook for every neighbouring chunk the fluid could flow into.
+     *
+     * @return bit {@code d} set for each denied direction (0 = -X, 1 = +X, 2 = -Z, 3 = +Z), 0 to allow
+     */
+    @Unique
+    private static int queryFluidVerdict(World world, int fluidId, int x, int y, int z) {
+        try {
+            String worldName = world.getName();
+            int localX = x & 31;
+            int localZ = z & 31;
+            int edges = (localX == 0 ? 1 : 0) | (localX == 31 ? 2 : 0)
+                    | (localZ == 0 ? 4 : 0) | (localZ == 31 ? 8 : 0);
+
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 27); // fluid_spread = 27
+            if (policy >= ALLOW && policy <= 3) return policy > ALLOW ? edges : 0;
+
+            Object[] hook = resolveFluidHook();
+            if (hook == null) return 0; // No hook = allow (fail-open)
+
+            int denied = 0;
+            for (int direction = 0; direction < 4; direction++) {
+                if ((edges & (1 << direction)) != 0
+                        && queryFluidCrossing(hook, worldName, fluidId, x, y, z, direction)) {
+                    denied |= 1 << direction;
+                }
+            }
+            return denied;
+        } catch (Throwable e) {
+            reportFault(e);
+            return 0; // Fail-open
+        }
+    }
+
+    @Unique
+    private static MethodHandle[] resolveNeighbourHandles() {
+        MethodHandle[] handles = neighbourHandles;
+        if (handles != null) return handles;
+        try {
+            MethodType at = MethodType.methodType(void.class, int.class, int.class, int.class);
+            handles = new MethodHandle[] {
+                MethodHandles.publicLookup().findVirtual(FluidTicker.Accessor.class, "getFluidSection",
+                        at.changeReturnType(FluidSection.class)),
+                MethodHandles.publicLookup().findVirtual(FluidSection.class, "getFluidId",
+                        at.changeReturnType(int.class)),
+                MethodHandles.publicLookup().findVirtual(FluidSection.class, "getFluidLevel",
+                        at.changeReturnType(byte.class))
+            };
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            handles = new MethodHandle[0];
+        }
+        neighbourHandles = handles;
+        return handles;
+    }
+
+    /**
+     * Records the fluid in every neighbour the block can flow into (four sides and below)
+     * before it spreads. Allowed neighbours are only compared afterwards, never restored.
+     *
+     * @return false if a denied neighbour's section cannot be read, so the caller must hold
+     *         the whole block
+     */
+    @Unique
+    private static boolean holdNeighbours(FluidTicker.Accessor accessor, int denied, int x, int y, int z) {
+        MethodHandle[] handles = resolveNeighbourHandles();
+        if (handles.length == 0) return false;
+        Object[] sections = heldSections.get();
+        int[] fluids = heldFluids.get();
+        try {
+            for (int direction = 0; direction < 5; direction++) {
+                sections[direction] = null;
+                int toX = x + (direction == 0 ? -1 : direction == 1 ? 1 : 0);
+                int toY = direction == 4 ? y - 1 : y;
+                int toZ = z + (direction == 2 ? -1 : direction == 3 ? 1 : 0);
+                FluidSection section = (FluidSection) handles[0].invoke(accessor, toX, toY, toZ);
+                if (section == null) {
+                    if ((denied & (1 << direction)) != 0) return false;
+                    continue; // Nothing loaded there for the fluid to flow into
+                }
+                sections[direction] = section;
+                fluids[direction * 2] = (int) handles[1].invoke(section, toX, toY, toZ);
+                fluids[direction * 2 + 1] = (byte) handles[2].invoke(section, toX, toY, toZ);
+            }
+            return true;
+        } catch (Throwable t) {
+            reportFault(t);
+            Arrays.fill(sections, null);
+            return false;
+        }
+    }
+
+    /**
+     * Puts back the denied neighbours recorded by {@link #holdNeighbours} if the spread
+     * changed them.
+     *
+     * @return true if a denied neighbour was put back and no allowed neighbour changed, i.e.
+     *         every flow this spread made was undone
+     */
+    @Unique
+    private static boolean restoreNeighbours(int denied, int x, int y, int z) {
+        MethodHandle[] handles = neighbourHandles;
+        Object[] sections = heldSections.get();
+        int[] fluids = heldFluids.get();
+        boolean reverted = false;
+        boolean flowed = false;
+        for (int direction = 0; direction < 5; direction++) {
+            if (!(sections[direction] instanceof FluidSection section)) continue;
+            sections[direction] = null;
+            int toX = x + (direction == 0 ? -1 : direction == 1 ? 1 : 0);
+            int toY = direction == 4 ? y - 1 : y;
+            int toZ = z + (direction == 2 ? -1 : direction == 3 ? 1 : 0);
+            try {
+                int id = (int) handles[1].invoke(section, toX, toY, toZ);
+                byte level = (byte) handles[2].invoke(section, toX, toY, toZ);
+                if (id == fluids[direction * 2] && level == (byte) fluids[direction * 2 + 1]) continue;
+                if ((denied & (1 << direction)) == 0) {
+                    flowed = true;
+                    continue;
+                }
+                section.setFluid(toX, toY, toZ, fluids[direction * 2], (byte) fluids[direction * 2 + 1]);
+                reverted = true;
+            } catch (Throwable t) {
+                reportFault(t);
+                flowed = true; // Unknown outcome — keep the server's strategy
+            }
+        }
+        return reverted && !flowed;
+    }
+
+    /**
+     * Verdict for flow from a block into the adjacent chunk in one direction
+     * (0 = -X, 1 = +X, 2 = -Z, 3 = +Z). Cached per fluid and claim pair when the ClaimGrid
+     * knows a claim on either side, otherwise per fluid, target chunk, section height and
+     * direction.
+     */
+    @Unique
+    private static boolean queryFluidCrossing(Object[] hook, String worldName, int fluidId,
+                                              int x, int y, int z, int direction) throws Throwable {
+        int toX = x + (direction == 0 ? -1 : direction == 1 ? 1 : 0);
+        int toZ = z + (direction == 2 ? -1 : direction == 3 ? 1 : 0);
+
+        long fromClaim = claimAt(worldName, x >> 5, z >> 5);
+        long toClaim = claimAt(worldName, toX >> 5, toZ >> 5);
+
+        // Same claim on both sides — nothing to protect at this border
+        if (fromClaim > 0 && fromClaim == toClaim) return false;
+
+        boolean cacheable = fluidId >= 0 && fluidId <= 0x3FFF;
+        long key;
+        if (fromClaim >= 0 && toClaim >= 0 && (fromClaim > 0 || toClaim > 0)) {
+            // Claim cell pair: one answer for every border between the same two claims
+            cacheable &= fromClaim <= 0xFFFFFF && toClaim <= 0xFFFFFF;
+            key = Long.MIN_VALUE | fromClaim << 38 | toClaim << 14 | (fluidId & 0x3FFF);
+        } else {
+            key = ((long) (toX >> 5) & 0x3FFFFL) << 44 | ((long) (toZ >> 5) & 0x3FFFFL) << 26
+                    | ((long) (y >> 5) & 0x3FFL) << 16 | (long) direction << 14 | (fluidId & 0x3FFF);
+        }
+
+        SectionVerdicts cache = null;
+        if (cacheable) {
+            long epoch = epoch(27); // fluid_spread = 27
+            cache = fluidVerdicts.get(worldName);
+            if (cache == null || cache.impl != hook[0] || cache.epoch != epoch
+                    || cache.verdicts.size() >= SectionVerdicts.MAX_ENTRIES) {
+                cache = new SectionVerdicts(hook[0], epoch);
+                fluidVerdicts.put(worldName, cache);
+            }
+            Integer cached = cache.verdicts.get(key);
+            if (cached != null) return cached > ALLOW;
+        }
+
+        int verdict = (int) ((MethodHandle) hook[1]).invoke(hook[0], worldName, fluidId, x, y, z, toX, y, toZ);
+        if (verdict < ALLOW) verdict = ALLOW; // Fail-open for negative/unknown values
+        if (cache != null) cache.verdicts.put(key, verdict);
+        return verdict > ALLOW;
+    }
+
+    /**
+     * Claim id of a chunk in the world's {@code ClaimGrid}: 0 if unclaimed, -1 if unknown
+     * (no grid, no handle, or an inconsistent read).
+     */
+    @Unique
+    private static long claimAt(String worldName, int chunkX, int chunkZ) {
+        Object handle = getBridge(25); // claim_handle = 25
+        if (!(handle instanceof MethodHandle mh)) return -1L;
+        try {
+            long entry = (long) mh.invoke(worldName, chunkX, chunkZ);
+            int claim = (int) (entry >>> 32);
+            return entry == -1L || claim < 0 ? -1L : claim; // ClaimGrid.UNKNOWN = -1
+        } catch (Throwable t) {
+            reportFault(t);
+            return -1L;
+        }
+    }
+
+    /**
+     * Section-level verdict from {@code evaluateFlameSection}, cached per world.
+     *
+     * @return ALLOW, 2 for fireproof, or {@code SectionVerdicts.MIXED} to ask per block
+     */
+    @Unique
+    private static int querySectionVerdict(Object[] hook, String worldName, long key,
+                                           int sectionX, int sectionY, int sectionZ) throws Throwable {
+        long epoch = epoch(2); // fire_spread = 2
+        SectionVerdicts cache = sectionVerdicts.get(worldName);
+        if (cache == null || cache.impl != hook[0] || cache.epoch != epoch
+                || cache.verdicts.size() >= SectionVerdicts.MAX_ENTRIES) {
+            cache = new SectionVerdicts(hook[0], epoch);
+            sectionVerdicts.put(worldName, cache);
+        }
+
+        Integer cached = cache.verdicts.get(key);
+        if (cached != null) return cached;
+
+        int verdict = (int) ((MethodHandle) hook[2]).invoke(hook[0], worldName, sectionX, sectionY, sectionZ);
+        int normalized = verdict == ALLOW ? ALLOW : (verdict >= 1 && verdict <= 3 ? 2 : SectionVerdicts.MIXED);
+        cache.verdicts.put(key, normalized);
+        return normalized;
+    }
 }
@@ -26,6 +26,9 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -33,9 +36,10 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 /**
  * Intercepts block harvesting (break + interactive pickup) in BlockHarvestUtils.
  *
- * Uses a consolidated ThreadLocal {@link HarvestContext} record to track the current
- * player, target block, and verdict across the five injection points within
- * {@code performPickupByInteraction()}.
+ * Uses a reusable per-thread {@link HarvestContext} to track the current player, target
+ * block, and verdict across the five injection points within
+ * {@code performPickupByInteraction()}. The context is mutated in place (no allocation per
+ * harvest) and cleared at the final stage so it does not pin the last Player.
  *
  * <p>Hook contract (block_break slot):
  * <ul>
@@ -61,28 +65,106 @@ public abstract class HarvestInterceptor {
     @Unique private static final int DENY_SILENT       = 2;
     @Unique private static final int DENY_MOD_HANDLES  = 3;
 
-    // --- Consolidated ThreadLocal context ---
+    // --- Reusable per-thread context ---
 
     @Unique
-    private record HarvestContext(int verdict, String reason, Player actor, Vector3i target) {
-        static final HarvestContext EMPTY = new HarvestContext(ALLOW, null, null, null);
+    private static final class HarvestContext {
+        public boolean active;
+        public int verdict;
+        public String reason;
+        public Player actor;
+        public boolean hasTarget;
+        public int targetX;
+        public int targetY;
+        public int targetZ;
+
+        /** Start of a harvest: clear everything and mark the context in use. */
+        public void reset() {
+            clear();
+            active = true;
+        }
+
+        /** End of a harvest: drop references so the last Player is not pinned. */
+        public void clear() {
+            active = false;
+            verdict = ALLOW;
+            reason = null;
+            actor = null;
+            hasTarget = false;
+        }
 
-        HarvestContext withVerdict(int verdict) {
-            return new HarvestContext(verdict, this.reason, this.actor, this.target);
+        public void deny(int verdict, String reason) {
+            this.verdict = verdict;
+            this.reason = reason;
         }
-        HarvestContext withReason(String reason) {
-            return new HarvestContext(this.verdict, reason, this.actor, this.target);
+    }
+
+    @Unique
+    private static final ThreadLocal<HarvestContext> context = ThreadLocal.withInitial(HarvestContext::new);
+
+    // --- Coalesced client resync for denied breaks ---
+
+    /**
+     * Denied positions collected per block section and invalidated once per tick, so a
+     * player holding the break button in a protected area does not trigger a resync per
+     * attempt. One batch per world thread; flushed through {@code World.execute()}.
+     */
+    @Unique
+    private static final class ResyncBatch {
+        final IdentityHashMap<BlockSection, long[]> sections = new IdentityHashMap<>();
+        public final Runnable flushTask = this::flush;
+        boolean scheduled;
+
+        static long packPosition(int x, int y, int z) {
+            return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFFL);
         }
-        HarvestContext withActor(Player actor) {
-            return new HarvestContext(this.verdict, this.reason, actor, this.target);
+
+        static int unpackX(long packed) { return (int) (packed >> 38); }
+        static int unpackY(long packed) { return (int) (packed << 52 >> 52); }
+        static int unpackZ(long packed) { return (int) (packed << 26 >> 38); }
+
+        /** Adds a position; returns true if a flush needs to be scheduled. */
+        public synchronized boolean add(BlockSection section, int x, int y, int z) {
+            long packed = packPosition(x, y, z);
+            long[] positions = sections.get(section);
+            if (positions == null) {
+                positions = new long[9]; // [0] = count
+                sections.put(section, positions);
+            }
+            int count = (int) positions[0];
+            for (int i = 1; i <= count; i++) {
+                if (positions[i] == packed) return false; // Already pending
+            }
+            if (count + 1 == positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+                sections.put(section, positions);
+            }
+            positions[count + 1] = packed;
+            positions[0] = count + 1;
+            if (scheduled) return false;
+            scheduled = true;
+            return true;
         }
-        HarvestContext withTarget(Vector3i target) {
-            return new HarvestContext(this.verdict, this.reason, this.actor, target);
+
+        public synchronized void flush() {
+            scheduled = false;
+            for (Map.Entry<BlockSection, long[]> entry : sections.entrySet()) {
+                BlockSection section = entry.getKey();
+                long[] positions = entry.getValue();
+                for (int i = 1, count = (int) positions[0]; i <= count; i++) {
+                    long p = positions[i];
+                    try {
+                        section.invalidateBlock(unpackX(p), unpackY(p), unpackZ(p));
+                    } catch (Exception ignored) {
+                    }
+                }
+            }
+            sections.clear();
         }
     }
 
     @Unique
-    private static final ThreadLocal<HarvestContext> context = new ThreadLocal<>();
+    private static final ThreadLocal<ResyncBatch> resyncBatch = ThreadLocal.withInitial(ResyncBatch::new);
 
     // --- Fault tracking ---
 
@@ -117,6 +199,33 @@ public abstract class HarvestInterceptor {
 
     // --- Helper methods ---
 
+    /**
+     * Queues a client resync for a denied block, falling back to an immediate
+     * invalidation when the world cannot take the deferred flush.
+     */
+    @Unique
+    private static void queueResync(BlockSection section, int x, int y, int z,
+                                    ComponentAccessor<ChunkStore> chunkStore) {
+        World world = null;
+        try {
+            world = ((ChunkStore) chunkStore.getExternalData()).getWorld();
+        } catch (Exception ignored) {
+        }
+        if (world != null) {
+            ResyncBatch batch = resyncBatch.get();
+            if (!batch.add(section, x, y, z)) return;
+            try {
+                world.execute(batch.flushTask);
+                return;
+            } catch (Exception e) {
+                reportFault(e);
+                batch.flush();
+                return;
+            }
+        }
+        section.invalidateBlock(x, y, z);
+    }
+
     @Unique
     @SuppressWarnings("unchecked")
     private static Object getBridge(int slot) {
@@ -138,6 +247,65 @@ public abstract class HarvestInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
     // --- Hook resolution helpers ---
 
     @Unique
@@ -218,7 +386,7 @@ public abstract class HarvestInterceptor {
         at = @At(value = "INVOKE", target = "Lcom/hypixel/hytale/server/core/asset/type/blocktype/config/BlockType;isUnknown()Z")
     )
     private static boolean resetContext(BlockType blockType) {
-        context.set(HarvestContext.EMPTY);
+        context.get().reset();
         return blockType.isUnknown();
     }
 
@@ -231,15 +399,19 @@ public abstract class HarvestInterceptor {
     )
     private static int snapshotTarget(BlockSection section, int x, int y, int z) {
         HarvestContext ctx = context.get();
-        if (ctx != null) {
-            context.set(ctx.withTarget(new Vector3i(x, y, z)));
+        if (ctx.active) {
+            ctx.hasTarget = true;
+            ctx.targetX = x;
+            ctx.targetY = y;
+            ctx.targetZ = z;
         }
         return section.getRotationIndex(x, y, z);
     }
 
     /**
      * Stage 3: Evaluate block break permission before the action proceeds.
-     * No bypass checks -- the hook implementation decides.
+     * Order as in docs/hooks.md: world policy, then the player's bypass bit, then the
+     * capability mask, then the hook.
      */
     @Redirect(
         method = "performPickupByInteraction",
@@ -247,36 +419,43 @@ public abstract class HarvestInterceptor {
     )
     private static boolean gateAction(Ref<EntityStore> ref, ComponentAccessor<EntityStore> entityStore) {
         try {
-            Player player = (Player) entityStore.getComponent(ref, Player.getComponentType());
             HarvestContext ctx = context.get();
-            if (ctx != null) {
-                context.set(ctx.withActor(player));
+            if (ctx.active) {
+                ctx.actor = (Player) entityStore.getComponent(ref, Player.getComponentType());
             }
 
-            PlayerRef playerRef = (PlayerRef) entityStore.getComponent(ref, PlayerRef.getComponentType());
-            UUID playerUuid = playerRef != null ? playerRef.getUuid() : null;
             World world = ((EntityStore) entityStore.getExternalData()).getWorld();
             String worldName = world != null ? world.getName() : "unknown";
-            Vector3i targetBlock = ctx != null ? ctx.target() : null;
 
-            if (targetBlock != null) {
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 0); // block_break = 0
+            if (policy == DENY_WITH_MESSAGE || policy == DENY_SILENT || policy == DENY_MOD_HANDLES) {
+                if (ctx.active) {
+                    ctx.deny(policy, policy == DENY_WITH_MESSAGE ? policyReason(worldName, 0) : null);
+                }
+            }
+            boolean askHook = policy < ALLOW || policy > DENY_MOD_HANDLES;
+
+            PlayerRef playerRef = (PlayerRef) entityStore.getComponent(ref, PlayerRef.getComponentType());
+            UUID playerUuid = playerRef != null ? playerRef.getUuid() : null;
+
+            if (ctx.active && ctx.hasTarget && askHook
+                    && !isBypassed(playerUuid, 0) // block_break = 0
+                    && !hasCapability(0, playerUuid, worldName, ctx.targetX, ctx.targetZ)) {
                 Object[] hook = resolveBreakHook();
                 if (hook != null) {
                     int verdict = (int) ((MethodHandle) hook[1]).invoke(
                             hook[0], playerUuid, worldName,
-                            targetBlock.getX(), targetBlock.getY(), targetBlock.getZ());
+                            ctx.targetX, ctx.targetY, ctx.targetZ);
 
                     if (verdict == DENY_WITH_MESSAGE || verdict == DENY_SILENT || verdict == DENY_MOD_HANDLES) {
                         String reason = null;
                         if (verdict == DENY_WITH_MESSAGE && hook.length >= 3 && hook[2] != null) {
                             reason = (String) ((MethodHandle) hook[2]).invoke(
                                     hook[0], playerUuid, worldName,
-                                    targetBlock.getX(), targetBlock.getY(), targetBlock.getZ());
-                        }
-                        ctx = context.get();
-                        if (ctx != null) {
-                            context.set(ctx.withVerdict(verdict).withReason(reason));
+                                    ctx.targetX, ctx.targetY, ctx.targetZ);
                         }
+                        ctx.deny(verdict, reason);
                     }
                 }
             }
@@ -297,28 +476,33 @@ public abstract class HarvestInterceptor {
                                          int setBlockSettings, Ref<ChunkStore> chunkReference,
                                          ComponentAccessor<ChunkStore> chunkStore) {
         HarvestContext ctx = context.get();
-        int verdict = ctx != null ? ctx.verdict() : ALLOW;
+        int verdict = ctx.active ? ctx.verdict : ALLOW;
+        Player actor = ctx.actor;
+        String reason = ctx.reason;
+        // Only the verdict is needed past this stage; drop references in case stage 5 never runs
+        ctx.actor = null;
+        ctx.reason = null;
 
         if (verdict == DENY_WITH_MESSAGE || verdict == DENY_SILENT || verdict == DENY_MOD_HANDLES) {
-            // Invalidate block to resync client
+            // Resync client — coalesced per section, flushed once per tick
             try {
                 BlockChunk blockChunk = (BlockChunk) chunkStore.getComponent(chunkReference, BlockChunk.getComponentType());
                 if (blockChunk != null) {
                     BlockSection section = blockChunk.getSectionAtBlockY(blockPosition.getY());
                     if (section != null) {
-                        section.invalidateBlock(blockPosition.getX(), blockPosition.getY(), blockPosition.getZ());
+                        queueResync(section, blockPosition.getX(), blockPosition.getY(),
+                                blockPosition.getZ(), chunkStore);
                     }
                 }
             } catch (Exception ignored) {
             }
 
             // Send denial message for DENY_WITH_MESSAGE
-            if (verdict == DENY_WITH_MESSAGE && ctx != null) {
+            if (verdict == DENY_WITH_MESSAGE) {
                 try {
-                    Player player = ctx.actor();
-                    Message msg = formatReason(ctx.reason());
-                    if (player != null && msg != null) {
-                        player.sendMessage(msg);
+                    Message msg = formatReason(reason);
+                    if (actor != null && msg != null) {
+                        actor.sendMessage(msg);
                     }
                 } catch (Exception ignored) {
                 }
@@ -339,7 +523,8 @@ public abstract class HarvestInterceptor {
     private static void interceptCollection(Ref<EntityStore> ref, ItemStack itemStack,
                                             Vector3d origin, ComponentAccessor<EntityStore> componentAccessor) {
         HarvestContext ctx = context.get();
-        int breakVerdict = ctx != null ? ctx.verdict() : ALLOW;
+        int breakVerdict = ctx.active ? ctx.verdict : ALLOW;
+        ctx.clear(); // Last stage of performPickupByInteraction
 
         // If block break was denied, skip pickup entirely
         if (breakVerdict == DENY_WITH_MESSAGE || breakVerdict == DENY_SILENT || breakVerdict == DENY_MOD_HANDLES) {
@@ -348,12 +533,29 @@ public abstract class HarvestInterceptor {
 
         // Evaluate pickup permission independently
         try {
-            PlayerRef playerRef = (PlayerRef) componentAccessor.getComponent(ref, PlayerRef.getComponentType());
-            UUID playerUuid = playerRef != null ? playerRef.getUuid() : null;
             World world = ((EntityStore) componentAccessor.getExternalData()).getWorld();
             String worldName = world != null ? world.getName() : null;
 
-            if (worldName != null && origin != null) {
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 4); // item_pickup = 4
+            if (policy == DENY_WITH_MESSAGE || policy == DENY_SILENT || policy == DENY_MOD_HANDLES) {
+                if (policy == DENY_WITH_MESSAGE) {
+                    Player player = (Player) componentAccessor.getComponent(ref, Player.getComponentType());
+                    Message msg = formatReason(policyReason(worldName, 4));
+                    if (player != null && msg != null) {
+                        player.sendMessage(msg);
+                    }
+                }
+                return;
+            }
+
+            PlayerRef playerRef = (PlayerRef) componentAccessor.getComponent(ref, PlayerRef.getComponentType());
+            UUID playerUuid = playerRef != null ? playerRef.getUuid() : null;
+
+            if (worldName != null && origin != null && policy != ALLOW
+                    && !isBypassed(playerUuid, 4) // item_pickup = 4
+                    && !hasCapability(4, playerUuid, worldName,
+                            (int) Math.floor(origin.getX()), (int) Math.floor(origin.getZ()))) {
                 Object[] hook = resolvePickupHook();
                 if (hook != null) {
                     int pickupVerdict = (int) ((MethodHandle) hook[1]).invoke(
@@ -19,9 +19,15 @@ import javax.annotation.Nonnull;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Intercepts clipboard paste operations in BuilderToolsPacketHandler.
@@ -33,7 +39,34 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *
  *   String fetchPasteDenyReason(UUID playerUuid, String worldName, int x, int y, int z)
  *     Returns deny message or null (optional method)
+ *
+ *   int[] fetchPasteBounds(UUID playerUuid, String worldName, int x, int y, int z)
+ *     World-space {minX, minY, minZ, maxX, maxY, maxZ} the paste will touch, or null (optional)
+ *
+ *   int evaluatePasteChunk(UUID playerUuid, String worldName, int chunkX, int chunkZ)
+ *     Verdict for the whole chunk column (optional)
+ * </pre>
+ *
+ * <p>With bounds, every chunk the paste touches is evaluated — through {@code evaluatePasteChunk}
+ * when present, otherwise {@code evaluatePaste} at the chunk's first block inside the bounds —
+ * and the first denying chunk decides. Hook calls are made one chunk at a time on the calling
+ * thread unless {@code -Dhyperprotect.paste.parallel_chunks} is set, in which case chunk sets
+ * above that size are evaluated on the common ForkJoin pool and the hook must be thread-safe.
+ * Pastes spanning more than {@code -Dhyperprotect.paste.max_chunks} chunk columns are denied
+ * silently. Without bounds, only the paste anchor is evaluated. If the consumer published protected
+ * boxes for the world to {@code RegionIndex} (slot 26), chunks whose part of the paste touches no
+ * box are allowed without calling the hook.
+ *
+ * <p>Optional, for deferred large pastes:
+ * <pre>
+ *   boolean applyPasteSlice(UUID playerUuid, String worldName, int x, int y, int z, int[] slice)
+ *     Applies the part of the player's clipboard pasted at (x, y, z) that lies inside
+ *     slice = {minX, minY, minZ, maxX, maxY, maxZ}; false aborts the rest of the paste
  * </pre>
+ * With that method, allowed pastes whose bounds exceed {@code -Dhyperprotect.paste.defer_volume}
+ * blocks (off by default) are cancelled and queued per world instead. On later ticks the queue
+ * hands out chunk-column slices of at most {@code -Dhyperprotect.paste.tick_budget} blocks, up to
+ * that budget per tick, re-evaluating each slice's chunk before applying it.
  */
 @Mixin(BuilderToolsPacketHandler.class)
 public abstract class PasteInterceptor {
@@ -44,6 +77,135 @@ public abstract class PasteInterceptor {
     @Unique
     private static volatile Object[] hookCache;
 
+    // --- Deferred large pastes ---
+
+    /** Paste volume (blocks) above which allowed pastes are sliced over ticks; 0 disables deferral. */
+    @Unique
+    private static final long DEFER_VOLUME = Long.getLong("hyperprotect.paste.defer_volume", 0L);
+
+    /** Paste volume (blocks) applied per world per tick; at least one 32×32 slice layer. */
+    @Unique
+    private static final long TICK_BUDGET = Math.max(1024L, Long.getLong("hyperprotect.paste.tick_budget", 262_144L));
+
+    /**
+     * One deferred paste: the anchor, the bounds and a cursor over chunk-column × y-run
+     * slices of at most {@code TICK_BUDGET} blocks. Holds no entity, store or world references.
+     */
+    @Unique
+    private static final class PasteJob {
+        public final UUID playerUuid;
+        public final int x, y, z;
+        public final int minX, minY, minZ, maxX, maxY, maxZ;
+        public final int minChunkX, minChunkZ, spanX, count;
+        public final int[] slice = new int[6];
+        public int column;
+        public int nextY;
+
+        public PasteJob(UUID playerUuid, int x, int y, int z, int[] bounds) {
+            this.playerUuid = playerUuid;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.minX = Math.min(bounds[0], bounds[3]);
+            this.minY = Math.min(bounds[1], bounds[4]);
+            this.minZ = Math.min(bounds[2], bounds[5]);
+            this.maxX = Math.max(bounds[0], bounds[3]);
+            this.maxY = Math.max(bounds[1], bounds[4]);
+            this.maxZ = Math.max(bounds[2], bounds[5]);
+            this.minChunkX = minX >> 5;
+            this.minChunkZ = minZ >> 5;
+            this.spanX = (maxX >> 5) - minChunkX + 1;
+            this.count = spanX * ((maxZ >> 5) - minChunkZ + 1);
+            this.nextY = minY;
+        }
+
+        /**
+         * Fills {@link #slice} with the next {@code minX, minY, minZ, maxX, maxY, maxZ} run and
+         * returns its volume, or 0 when the paste is done.
+         */
+        public long nextSlice(long budget) {
+            if (column >= count) return 0;
+            int chunkX = minChunkX + column % spanX;
+            int chunkZ = minChunkZ + column / spanX;
+            slice[0] = Math.max(minX, chunkX << 5);
+            slice[2] = Math.max(minZ, chunkZ << 5);
+            slice[3] = Math.min(maxX, (chunkX << 5) + 31);
+            slice[5] = Math.min(maxZ, (chunkZ << 5) + 31);
+            long area = (long) (slice[3] - slice[0] + 1) * (slice[5] - slice[2] + 1);
+            long height = Math.min(Math.max(1L, budget / area), (long) maxY - nextY + 1);
+            slice[1] = nextY;
+            slice[4] = (int) (nextY + height - 1);
+            if (slice[4] >= maxY) {
+                column++;
+                nextY = minY;
+            } else {
+                nextY = slice[4] + 1;
+            }
+            return area * height;
+        }
+    }
+
+    /**
+     * Deferred pastes for one world, drained through {@code World.execute()} within the tick
+     * budget. The world is held weakly so a queue never keeps an unloaded world alive.
+     */
+    @Unique
+    private static final class PasteQueue {
+        public final WeakReference<World> world;
+        final ArrayDeque<PasteJob> jobs = new ArrayDeque<>();
+        boolean scheduled;
+        public Runnable drainTask;
+
+        public PasteQueue(World world) {
+            this.world = new WeakReference<>(world);
+        }
+
+        /** Adds a paste; returns true if a drain needs to be scheduled. */
+        public synchronized boolean add(PasteJob job) {
+            jobs.add(job);
+            if (scheduled) return false;
+            scheduled = true;
+            return true;
+        }
+
+        public synchronized PasteJob peek() {
+            return jobs.peek();
+        }
+
+        public synchronized void remove(PasteJob job) {
+            jobs.remove(job);
+        }
+
+        /** Marks the drain finished if nothing is left; returns true if another drain is needed. */
+        public synchronized boolean reschedule() {
+            if (jobs.isEmpty()) {
+                scheduled = false;
+                return false;
+            }
+            return true;
+        }
+
+        public synchronized void clear() {
+            jobs.clear();
+            scheduled = false;
+        }
+    }
+
+    @Unique
+    private static final ConcurrentHashMap<String, PasteQueue> pasteQueues = new ConcurrentHashMap<>();
+
+    /**
+     * Chunk count above which chunk verdicts are computed in parallel on the common pool;
+     * 0 (default) keeps every hook call on the calling thread. Opt-in because consumer hooks
+     * are then called concurrently.
+     */
+    @Unique
+    private static final int PARALLEL_CHUNKS = Integer.getInteger("hyperprotect.paste.parallel_chunks", 0);
+
+    /** Chunk columns a paste may span before it is denied outright. */
+    @Unique
+    private static final int MAX_CHUNKS = Integer.getInteger("hyperprotect.paste.max_chunks", 65_536);
+
     static {
         System.setProperty("hyperprotect.intercept.builder_tools", "true");
     }
@@ -71,6 +233,65 @@ public abstract class PasteInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
     @Unique
     private static Message formatReason(String reason) {
         if (reason == null || reason.isEmpty()) return null;
@@ -106,6 +327,18 @@ public abstract class PasteInterceptor {
         if (result == null) return null; // Let original null-check handle it
 
         try {
+            String worldName = world.getName();
+
+            // World policy decides without the hook; ALLOW_ALL still goes through deferral below
+            int policy = worldPolicy(worldName, 3); // builder_tools = 3
+            if (policy == 1 || policy == 2 || policy == 3) {
+                if (policy == 1) {
+                    Message msg = formatReason(policyReason(worldName, 3));
+                    if (msg != null) ((Player) result).sendMessage(msg);
+                }
+                return null; // Return null to trigger early exit
+            }
+
             Object[] hook = hookCache;
 
             // Re-resolve if hook changed or not yet cached
@@ -124,7 +357,28 @@ public abstract class PasteInterceptor {
                             MethodType.methodType(String.class,
                                     UUID.class, String.class, int.class, int.class, int.class));
                     } catch (NoSuchMethodException ignored) {}
-                    hook = new Object[] { current, primary, secondary };
+                    MethodHandle bounds = null;
+                    try {
+                        bounds = MethodHandles.publicLookup().findVirtual(
+                            current.getClass(), "fetchPasteBounds",
+                            MethodType.methodType(int[].class,
+                                    UUID.class, String.class, int.class, int.class, int.class));
+                    } catch (NoSuchMethodException ignored) {}
+                    MethodHandle chunk = null;
+                    try {
+                        chunk = MethodHandles.publicLookup().findVirtual(
+                            current.getClass(), "evaluatePasteChunk",
+                            MethodType.methodType(int.class,
+                                    UUID.class, String.class, int.class, int.class));
+                    } catch (NoSuchMethodException ignored) {}
+                    MethodHandle slice = null;
+                    try {
+                        slice = MethodHandles.publicLookup().findVirtual(
+                            current.getClass(), "applyPasteSlice",
+                            MethodType.methodType(boolean.class,
+                                    UUID.class, String.class, int.class, int.class, int.class, int[].class));
+                    } catch (NoSuchMethodException ignored) {}
+                    hook = new Object[] { current, primary, secondary, bounds, chunk, slice };
                     hookCache = hook;
                 } catch (Exception e) {
                     reportFault(e);
@@ -133,15 +387,46 @@ public abstract class PasteInterceptor {
             }
 
             UUID playerUuid = playerRef.getUuid();
-            String worldName = world.getName();
+            // Allowed without asking: ALLOW_ALL worlds and bypassed staff
+            boolean allowed = policy == 0 || isBypassed(playerUuid, 3); // builder_tools = 3
+            if (allowed && (hook[5] == null || DEFER_VOLUME <= 0)) return result;
 
-            int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                    hook[0], playerUuid, worldName,
-                    packet.x, packet.y, packet.z);
+            // Whole paste volume when the hook can describe it, otherwise the anchor
+            int[] at = { packet.x, packet.y, packet.z };
+            int[] bounds = hook[3] != null
+                    ? (int[]) ((MethodHandle) hook[3]).invoke(hook[0], playerUuid, worldName, packet.x, packet.y, packet.z)
+                    : null;
+
+            // Deferral is decided on the allowed path first, whatever the reason it is allowed
+            if (allowed) {
+                if (bounds != null && bounds.length >= 6
+                        && deferPaste(hook, playerUuid, world, packet, bounds)) {
+                    return null; // Return null to trigger early exit; the queue applies it
+                }
+                return result;
+            }
+
+            int verdict;
+            if (bounds != null && bounds.length >= 6) {
+                verdict = evaluateVolume(hook, playerUuid, worldName, bounds, at);
+            } else {
+                // Capability mask allows the whole chunk — skip the hook
+                if (hasCapability(3, playerUuid, worldName, packet.x, packet.z)) return result;
+
+                verdict = (int) ((MethodHandle) hook[1]).invoke(
+                        hook[0], playerUuid, worldName,
+                        packet.x, packet.y, packet.z);
+            }
 
             // Fail-open for negative/unknown values
             if (verdict < 0) return result;
 
+            // Large allowed paste — apply it in slices on later ticks instead
+            if ((verdict == 0 || verdict > 3) && bounds != null && bounds.length >= 6
+                    && deferPaste(hook, playerUuid, world, packet, bounds)) {
+                return null; // Return null to trigger early exit; the queue applies it
+            }
+
             switch (verdict) {
                 case 0 -> { /* ALLOW */ }
                 case 1 -> {
@@ -149,7 +434,7 @@ public abstract class PasteInterceptor {
                     if (hook.length >= 3 && hook[2] != null) {
                         String reason = (String) ((MethodHandle) hook[2]).invoke(
                                 hook[0], playerUuid, worldName,
-                                packet.x, packet.y, packet.z);
+                                at[0], at[1], at[2]);
                         Player player = (Player) result;
                         Message msg = formatReason(reason);
                         if (msg != null) player.sendMessage(msg);
@@ -168,4 +453,208 @@ public abstract class PasteInterceptor {
         }
         return result;
     }
+
+    /**
+     * Queues an allowed paste whose volume exceeds the deferral threshold, if the hook can
+     * apply it in slices.
+     *
+     * @return true if the paste was queued and must not run now
+     */
+    @Unique
+    private static boolean deferPaste(Object[] hook, UUID playerUuid, World world,
+                                      BuilderToolPasteClipboard packet, int[] bounds) {
+        if (DEFER_VOLUME <= 0 || hook[5] == null) return false;
+        long volume = (Math.abs((long) bounds[3] - bounds[0]) + 1)
+                * (Math.abs((long) bounds[4] - bounds[1]) + 1)
+                * (Math.abs((long) bounds[5] - bounds[2]) + 1);
+        if (volume <= DEFER_VOLUME) return false;
+
+        PasteQueue queue = pasteQueues.compute(world.getName(), (name, existing) -> {
+            if (existing != null && existing.world.get() == world) return existing;
+            if (existing != null) existing.clear(); // Same name, new world instance — old one unloaded
+            PasteQueue fresh = new PasteQueue(world);
+            fresh.drainTask = () -> drainPastes(name, fresh);
+            return fresh;
+        });
+        if (queue.add(new PasteJob(playerUuid, packet.x, packet.y, packet.z, bounds))) {
+            try {
+                world.execute(queue.drainTask);
+            } catch (Exception e) {
+                reportFault(e);
+                queue.clear();
+                pasteQueues.remove(world.getName(), queue);
+                return false; // Fail-open: paste now
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies queued slices for one world until the tick budget is spent. Every slice is
+     * re-evaluated before it is applied; a deny, a false return from {@code applyPasteSlice}
+     * or a fault ends that paste. The queue is dropped when its world is gone or the hook
+     * is replaced.
+     */
+    @Unique
+    private static void drainPastes(String worldName, PasteQueue queue) {
+        World world = queue.world.get();
+        Object[] hook = hookCache;
+        if (world == null || hook == null || hook[0] != getBridge(3) || hook[5] == null) { // builder_tools = 3
+            queue.clear();
+            pasteQueues.remove(worldName, queue);
+            return;
+        }
+        int policy = worldPolicy(worldName, 3); // builder_tools = 3
+        long applied = 0;
+        while (applied < TICK_BUDGET) {
+            PasteJob job = queue.peek();
+            if (job == null) break;
+            long volume = job.nextSlice(TICK_BUDGET);
+            if (volume == 0) {
+                queue.remove(job);
+                continue;
+            }
+            int[] slice = job.slice;
+            try {
+                int verdict = policy >= 0 && policy <= 3 ? policy
+                        : isBypassed(job.playerUuid, 3) ? 0 // builder_tools = 3
+                        : evaluateSlice(hook, job.playerUuid, worldName, slice);
+                if (verdict != 0 || !(boolean) ((MethodHandle) hook[5]).invoke(
+                        hook[0], job.playerUuid, worldName, job.x, job.y, job.z, slice)) {
+                    queue.remove(job); // Protected or aborted — stop this paste
+                }
+            } catch (Throwable t) {
+                reportFault(t);
+                queue.remove(job);
+            }
+            applied += volume;
+        }
+        if (queue.reschedule()) {
+            try {
+                world.execute(queue.drainTask);
+            } catch (Exception e) {
+                reportFault(e);
+                queue.clear(); // World is gone — drop its queue
+                pasteQueues.remove(worldName, queue);
+            }
+        }
+    }
+
+    /**
+     * Verdict for one slice: 0 if it touches no published protected box, otherwise the
+     * verdict of its chunk column.
+     */
+    @Unique
+    private static int evaluateSlice(Object[] hook, UUID playerUuid, String worldName, int[] slice) {
+        int chunkX = slice[0] >> 5;
+        int chunkZ = slice[2] >> 5;
+        long[] inside = regionChunks(worldName, slice[0], slice[1], slice[2], slice[3], slice[4], slice[5],
+                chunkX, chunkZ, 1, 1);
+        if (inside != null && inside[0] == 0L) return 0;
+        return evaluateChunk(hook, playerUuid, worldName, chunkX, chunkZ, slice[0], slice[1], slice[2]);
+    }
+
+    /**
+     * Verdict for one chunk column, through {@code evaluatePasteChunk} when present, otherwise
+     * {@code evaluatePaste} at {@code (x, y, z)}. Returns 1-3 to deny, 0 otherwise (fail-open).
+     */
+    @Unique
+    private static int evaluateChunk(Object[] hook, UUID playerUuid, String worldName,
+                                     int chunkX, int chunkZ, int x, int y, int z) {
+        try {
+            if (hasCapability(3, playerUuid, worldName, x, z)) return 0;
+            int v = hook[4] != null
+                    ? (int) ((MethodHandle) hook[4]).invoke(hook[0], playerUuid, worldName, chunkX, chunkZ)
+                    : (int) ((MethodHandle) hook[1]).invoke(hook[0], playerUuid, worldName, x, y, z);
+            return v >= 1 && v <= 3 ? v : 0; // Negative/unknown = allow (fail-open)
+        } catch (Throwable t) {
+            reportFault(t);
+            return 0;
+        }
+    }
+
+    /**
+     * Evaluates every chunk column the bounds touch and returns the first deny verdict
+     * (1-3) by chunk order, or 0. {@code at} receives the block the deny was evaluated at.
+     * Bounds spanning more than {@code MAX_CHUNKS} columns are denied (2) without a hook call.
+     */
+    @Unique
+    private static int evaluateVolume(Object[] hook, UUID playerUuid, String worldName,
+                                      int[] bounds, int[] at) {
+        int minX = Math.min(bounds[0], bounds[3]);
+        int minZ = Math.min(bounds[2], bounds[5]);
+        int maxX = Math.max(bounds[0], bounds[3]);
+        int maxZ = Math.max(bounds[2], bounds[5]);
+        int y = Math.min(bounds[1], bounds[4]);
+        int maxY = Math.max(bounds[1], bounds[4]);
+
+        int minChunkX = minX >> 5;
+        int minChunkZ = minZ >> 5;
+        int spanX = (maxX >> 5) - minChunkX + 1;
+        int spanZ = (maxZ >> 5) - minChunkZ + 1;
+        long total = (long) spanX * spanZ;
+        if (total > MAX_CHUNKS) return 2; // Too large to evaluate — deny silently
+        int count = (int) total;
+
+        // Only chunks touching a published protected box need the hook
+        long[] inside = regionChunks(worldName, minX, y, minZ, maxX, maxY, maxZ,
+                minChunkX, minChunkZ, spanX, count);
+        if (inside != null && Arrays.stream(inside).allMatch(word -> word == 0L)) return 0;
+
+        int[] verdicts = new int[count];
+        IntUnaryOperator evaluate = i -> {
+            if (inside != null && (inside[i >>> 6] & (1L << i)) == 0) return 0;
+            int chunkX = minChunkX + i % spanX;
+            int chunkZ = minChunkZ + i / spanX;
+            return evaluateChunk(hook, playerUuid, worldName, chunkX, chunkZ,
+                    Math.max(minX, chunkX << 5), y, Math.max(minZ, chunkZ << 5));
+        };
+        if (PARALLEL_CHUNKS > 0 && count > PARALLEL_CHUNKS) {
+            Arrays.parallelSetAll(verdicts, evaluate);
+        } else {
+            Arrays.setAll(verdicts, evaluate);
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (verdicts[i] != 0) {
+                at[0] = Math.max(minX, (minChunkX + i % spanX) << 5);
+                at[1] = y;
+                at[2] = Math.max(minZ, (minChunkZ + i / spanX) << 5);
+                return verdicts[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Bitset over the paste's chunk columns (in {@link #evaluateVolume} order) with bit i set
+     * when that chunk's part of the paste touches one of the world's {@code RegionIndex}
+     * boxes, or null when the world has no boxes or the handle is unavailable.
+     */
+    @Unique
+    private static long[] regionChunks(String worldName, int minX, int minY, int minZ,
+                                       int maxX, int maxY, int maxZ,
+                                       int minChunkX, int minChunkZ, int spanX, int count) {
+        Object handle = getBridge(26); // region_handle = 26
+        if (!(handle instanceof MethodHandle mh)) return null;
+        int[] ranges = new int[count * 6];
+        for (int i = 0, r = 0; i < count; i++, r += 6) {
+            int chunkX = minChunkX + i % spanX;
+            int chunkZ = minChunkZ + i / spanX;
+            ranges[r] = Math.max(minX, chunkX << 5);
+            ranges[r + 1] = minY;
+            ranges[r + 2] = Math.max(minZ, chunkZ << 5);
+            ranges[r + 3] = Math.min(maxX, (chunkX << 5) + 31);
+            ranges[r + 4] = maxY;
+            ranges[r + 5] = Math.min(maxZ, (chunkZ << 5) + 31);
+        }
+        long[] bits = new long[(count + 63) >>> 6];
+        try {
+            int hits = (int) mh.invoke(worldName, ranges, count, bits);
+            return hits < 0 ? null : bits;
+        } catch (Throwable t) {
+            reportFault(t);
+            return null;
+        }
+    }
 }
@@ -23,8 +23,11 @@ import javax.annotation.Nonnull;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -41,6 +44,15 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *
  * <p>Verdict protocol: 0=ALLOW, 1=DENY_WITH_MESSAGE, 2=DENY_SILENT, 3=DENY_MOD_HANDLES.
  * Fail-open on error.
+ *
+ * <p>Verdicts (and deny reasons) are cached per attacker, target player (or "any non-player"),
+ * world and target chunk for {@code -Dhyperprotect.cache.entity_damage_ttl} milliseconds
+ * (default 1000, 0 disables), and dropped early when the hook is replaced or the
+ * entity_damage epoch changes.
+ *
+ * <p>Area-of-effect hits run tick0 once per target in quick succession. The attacker side
+ * (PlayerRef, UUID, bypass bit) is resolved once per burst — consecutive hits by the same
+ * attacker in the same world within one tick — and reused for the remaining targets.
  */
 @Mixin(DamageEntityInteraction.class)
 public abstract class EntityDamageInterceptor {
@@ -59,6 +71,44 @@ public abstract class EntityDamageInterceptor {
     private static final MethodType FETCH_REASON_TYPE = MethodType.methodType(
             String.class, UUID.class, UUID.class, String.class, int.class, int.class, int.class);
 
+    // Verdicts per (attacker, target, target chunk); targetUuid is null for non-player targets
+    @Unique
+    public record DamageKey(UUID attackerUuid, UUID targetUuid, String worldName, int chunkX, int chunkZ) {}
+
+    @Unique
+    public record DamageVerdict(Object impl, long epoch, long expiresAt, int verdict, String reason) {}
+
+    @Unique
+    private static final ConcurrentHashMap<DamageKey, DamageVerdict> damageVerdicts = new ConcurrentHashMap<>();
+
+    @Unique
+    private static final long ENTITY_DAMAGE_TTL_NANOS =
+            Long.getLong("hyperprotect.cache.entity_damage_ttl", 1000L) * 1_000_000L;
+
+    @Unique
+    private static final int MAX_DAMAGE_VERDICTS = 4096;
+
+    /**
+     * Attacker-side context shared by the hits of one burst, mutated in place per burst.
+     */
+    @Unique
+    private static final class AttackerBurst {
+        static final long WINDOW_NANOS = 50_000_000L; // one server tick
+
+        public Ref<EntityStore> attackerRef;
+        public World world;
+        public long startedAt;
+        public UUID attackerUuid; // null = not a player attacker
+        public boolean bypassed;
+
+        public boolean matches(Ref<EntityStore> attackerRef, World world, long now) {
+            return this.attackerRef == attackerRef && this.world == world && now - startedAt < WINDOW_NANOS;
+        }
+    }
+
+    @Unique
+    private static final ThreadLocal<AttackerBurst> attackerBurst = ThreadLocal.withInitial(AttackerBurst::new);
+
     static {
         System.setProperty("hyperprotect.intercept.entity_damage", "true");
     }
@@ -84,6 +134,74 @@ public abstract class EntityDamageInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Current epoch of a slot, or 0 if the bridge is not initialized.
+     */
+    @Unique
+    private static long epoch(int slot) {
+        Object epochs = System.getProperties().get("hyperprotect.bridge.epoch");
+        return epochs instanceof AtomicLongArray arr ? arr.get(slot) : 0L;
+    }
+
     @Unique
     private static Object[] resolveHook() {
         Object[] cached = hookCache;
@@ -113,13 +231,8 @@ public abstract class EntityDamageInterceptor {
     }
 
     @Unique
-    private static void formatReason(Object[] hook, Player player,
-                                     UUID attackerUuid, UUID targetUuid, String worldName,
-                                     int x, int y, int z) {
+    private static void sendReason(Player player, String raw) {
         try {
-            if (hook.length < 3 || hook[2] == null) return;
-            String raw = (String) ((MethodHandle) hook[2]).invoke(hook[0],
-                    attackerUuid, targetUuid, worldName, x, y, z);
             if (raw == null || raw.isEmpty()) return;
             Object fmtHandle = getBridge(15);
             if (fmtHandle instanceof MethodHandle mh) {
@@ -152,25 +265,49 @@ public abstract class EntityDamageInterceptor {
         Ref<EntityStore> targetRef = context.getTargetEntity();
 
         try {
-            Object[] hook = resolveHook();
-            if (hook == null) return targetRef; // No hook = allow
-
             if (targetRef == null || !targetRef.isValid()) return targetRef; // Let original handle it
 
             CommandBuffer<EntityStore> commandBuffer = context.getCommandBuffer();
             if (commandBuffer == null) return targetRef;
 
+            World world = commandBuffer.getExternalData().getWorld();
+            if (world == null) return targetRef;
+            String worldName = world.getName();
+
+            // World policy decides without the hook; null hook below means "use the policy"
+            int policy = worldPolicy(worldName, 16); // entity_damage = 16
+            if (policy == 0) return targetRef;
+            boolean denyAll = policy == 1 || policy == 2 || policy == 3;
+            Object[] hook = denyAll ? null : resolveHook();
+            if (hook == null && !denyAll) return targetRef; // No hook = allow
+
             Ref<EntityStore> attackerRef = context.getEntity();
             if (attackerRef == null || !attackerRef.isValid()) return targetRef;
 
-            PlayerRef attackerPlayerRef = commandBuffer.getComponent(attackerRef, PlayerRef.getComponentType());
-            if (attackerPlayerRef == null) return targetRef; // Not a player attacker — skip
+            // Attacker side once per burst (AoE hits arrive back to back)
+            long now = System.nanoTime();
+            AttackerBurst burst = attackerBurst.get();
+            if (!burst.matches(attackerRef, world, now)) {
+                PlayerRef attackerPlayerRef = commandBuffer.getComponent(attackerRef, PlayerRef.getComponentType());
+                burst.attackerRef = attackerRef;
+                burst.world = world;
+                burst.startedAt = now;
+                burst.attackerUuid = attackerPlayerRef != null ? attackerPlayerRef.getUuid() : null;
+                burst.bypassed = burst.attackerUuid != null && isBypassed(burst.attackerUuid, 16); // entity_damage = 16
+            }
+            if (burst.attackerUuid == null) return targetRef; // Not a player attacker — skip
+            if (!denyAll && burst.bypassed) return targetRef;
 
-            World world = commandBuffer.getExternalData().getWorld();
-            if (world == null) return targetRef;
+            UUID attackerUuid = burst.attackerUuid;
 
-            UUID attackerUuid = attackerPlayerRef.getUuid();
-            String worldName = world.getName();
+            if (denyAll) {
+                if (policy == 1) {
+                    Player player = commandBuffer.getComponent(attackerRef, Player.getComponentType());
+                    if (player != null) sendReason(player, policyReason(worldName, 16));
+                }
+                context.getState().state = InteractionState.Failed;
+                return null;
+            }
 
             // Resolve target UUID (null for non-player targets)
             PlayerRef targetPlayerRef = commandBuffer.getComponent(targetRef, PlayerRef.getComponentType());
@@ -181,26 +318,23 @@ public abstract class EntityDamageInterceptor {
             try {
                 EntitySnapshot targetSnapshot = context.getSnapshot(targetRef, commandBuffer);
                 if (targetSnapshot != null) {
+                    // Floor so negative coordinates map to the right block and chunk
                     Vector3d pos = targetSnapshot.getPosition();
-                    x = (int) pos.x;
-                    y = (int) pos.y;
-                    z = (int) pos.z;
+                    x = (int) Math.floor(pos.x);
+                    y = (int) Math.floor(pos.y);
+                    z = (int) Math.floor(pos.z);
                 }
             } catch (Exception ignored) {
                 // Position unavailable — pass (0,0,0), consumer should handle gracefully
             }
 
-            int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                    hook[0], attackerUuid, targetUuid, worldName, x, y, z);
-
-            if (verdict < 0) return targetRef; // Fail-open for negative/unknown values
+            DamageVerdict result = queryDamageVerdict(hook, attackerUuid, targetUuid, worldName, x, y, z);
+            int verdict = result.verdict();
 
             if (verdict == 1 || verdict == 2 || verdict == 3) {
                 if (verdict == 1) {
                     Player player = commandBuffer.getComponent(attackerRef, Player.getComponentType());
-                    if (player != null) {
-                        formatReason(hook, player, attackerUuid, targetUuid, worldName, x, y, z);
-                    }
+                    if (player != null) sendReason(player, result.reason());
                 }
                 context.getState().state = InteractionState.Failed;
                 return null; // Return null to trigger the existing null-check early exit in tick0
@@ -211,4 +345,48 @@ public abstract class EntityDamageInterceptor {
         }
         return targetRef;
     }
+
+    /**
+     * Verdict for an attacker hitting a target at the given block, from the cache while it is
+     * fresh. The deny reason is fetched together with a DENY_WITH_MESSAGE verdict; if the fetch
+     * fails the deny still stands, without a reason.
+     */
+    @Unique
+    private static DamageVerdict queryDamageVerdict(Object[] hook, UUID attackerUuid, UUID targetUuid,
+                                                    String worldName, int x, int y, int z) throws Throwable {
+        long now = System.nanoTime();
+        long epoch = epoch(16); // entity_damage = 16
+        DamageKey key = ENTITY_DAMAGE_TTL_NANOS > 0
+                ? new DamageKey(attackerUuid, targetUuid, worldName, x >> 5, z >> 5)
+                : null;
+        if (key != null) {
+            DamageVerdict cached = damageVerdicts.get(key);
+            if (cached != null && cached.impl() == hook[0] && cached.epoch() == epoch
+                    && now - cached.expiresAt() < 0) {
+                return cached;
+            }
+        }
+
+        // Capability mask allows the whole chunk — skip the hook
+        int verdict = hasCapability(16, attackerUuid, worldName, x, z)
+                ? 0
+                : (int) ((MethodHandle) hook[1]).invoke(hook[0], attackerUuid, targetUuid, worldName, x, y, z);
+        if (verdict < 0 || verdict > 3) verdict = 0; // Fail-open for negative/unknown values
+        String reason = null;
+        if (verdict == 1 && hook[2] != null) {
+            // A failing reason fetch must not turn the deny into an allow
+            try {
+                reason = (String) ((MethodHandle) hook[2]).invoke(hook[0], attackerUuid, targetUuid, worldName, x, y, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+
+        DamageVerdict result = new DamageVerdict(hook[0], epoch, now + ENTITY_DAMAGE_TTL_NANOS, verdict, reason);
+        if (key != null) {
+            if (damageVerdicts.size() >= MAX_DAMAGE_VERDICTS) damageVerdicts.clear();
+            damageVerdicts.put(key, result);
+        }
+        return result;
+    }
 }
@@ -4,6 +4,7 @@ import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandManager;
 import com.hypixel.hytale.server.core.command.system.CommandSender;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -13,7 +14,9 @@ import javax.annotation.Nonnull;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -30,6 +33,11 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *   String fetchCommandDenyReason(Player player, String commandString)
  *     Returns deny message or null (optional method)
  * </pre>
+ *
+ * <p>With {@code -Dhyperprotect.command.async=true} the hook is not called on the dispatching
+ * thread: the task handed to {@code ForkJoinPool.commonPool()} is wrapped so it evaluates
+ * first and, when denied, completes the command's future without running the command. The
+ * hook (and {@code fetchCommandDenyReason}) must then be safe to call off the world thread.
  */
 @Mixin(CommandManager.class)
 public abstract class CommandGateInterceptor {
@@ -48,6 +56,9 @@ public abstract class CommandGateInterceptor {
     private static final MethodType FETCH_REASON_TYPE = MethodType.methodType(
             String.class, Player.class, String.class);
 
+    @Unique
+    private static final boolean ASYNC = Boolean.getBoolean("hyperprotect.command.async");
+
     static {
         System.setProperty("hyperprotect.intercept.command", "true");
     }
@@ -73,6 +84,47 @@ public abstract class CommandGateInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
     @Unique
     private static Object[] resolveHook() {
         Object[] cached = hookCache;
@@ -106,6 +158,15 @@ public abstract class CommandGateInterceptor {
         try {
             if (hook.length < 3 || hook[2] == null) return;
             String raw = (String) ((MethodHandle) hook[2]).invoke(hook[0], player, commandString);
+            sendReason(player, raw);
+        } catch (Throwable t) {
+            reportFault(t);
+        }
+    }
+
+    @Unique
+    private static void sendReason(Player player, String raw) {
+        try {
             if (raw == null || raw.isEmpty()) return;
             Object fmtHandle = getBridge(15);
             if (fmtHandle instanceof MethodHandle mh) {
@@ -119,7 +180,7 @@ public abstract class CommandGateInterceptor {
 
     /**
      * Redirects the first Objects.requireNonNull(commandSender) call in handleCommand
-     * to evaluate the command hook. If denied, stores a DeniedResult in a ThreadLocal
+     * to evaluate the command hook. If denied, stores the denied future in a ThreadLocal
      * that the subsequent redirects (gateCommandFuture and gateCommandExecution) pick up
      * to short-circuit execution.
      *
@@ -130,6 +191,9 @@ public abstract class CommandGateInterceptor {
      *   <li>gateCommandFuture: return pre-completed future when denied</li>
      *   <li>gateCommandExecution: skip ForkJoinPool.execute() when denied</li>
      * </ol>
+     *
+     * <p>In async mode this redirect only performs the null check; evaluation happens in
+     * the wrapped task (see gateCommandExecution).
      */
     @Redirect(
         method = "handleCommand(Lcom/hypixel/hytale/server/core/command/system/CommandSender;Ljava/lang/String;)Ljava/util/concurrent/CompletableFuture;",
@@ -143,30 +207,54 @@ public abstract class CommandGateInterceptor {
         // Always perform the real null check first
         Objects.requireNonNull(commandSender, message);
 
-        // Only gate player commands
-        if (!(sender instanceof Player player)) {
-            return commandSender; // Console commands pass through
+        // Only gate player commands; async mode evaluates inside the submitted task
+        if (ASYNC || !(sender instanceof Player player)) {
+            return commandSender;
+        }
+
+        if (isCommandDenied(player, commandString)) {
+            // One future per denial: a shared one could be obtruded by any caller
+            denied.set(CompletableFuture.completedFuture(null));
         }
+        return commandSender;
+    }
 
+    /**
+     * Runs world policy, bypass and the command hook for a player command, sending the
+     * deny message where the verdict asks for one.
+     *
+     * @return true if the command must not run
+     */
+    @Unique
+    private static boolean isCommandDenied(Player player, String commandString) {
         try {
+            // World policy decides without the hook
+            World world = player.getWorld();
+            String worldName = world != null ? world.getName() : null;
+            int policy = worldPolicy(worldName, 11); // command = 11
+            if (policy == 0) return false;
+            if (policy == 1 || policy == 2 || policy == 3) {
+                if (policy == 1) sendReason(player, policyReason(worldName, 11));
+                return true;
+            }
+
             Object[] hook = resolveHook();
-            if (hook == null) return commandSender;
+            if (hook == null) return false;
+            if (isBypassed(player.getUuid(), 11)) return false; // command = 11
 
             int verdict = (int) ((MethodHandle) hook[1]).invoke(hook[0], player, commandString);
 
             // Fail-open for negative/unknown values
-            if (verdict < 0) return commandSender;
+            if (verdict < 0) return false;
 
             switch (verdict) {
                 case 0 -> { /* ALLOW */ }
                 case 1 -> {
                     formatReason(hook, player, commandString);
-                    denied.set(new DeniedResult(CompletableFuture.completedFuture(null)));
-                    return commandSender;
+                    return true;
                 }
                 case 2, 3 -> {
-                    denied.set(new DeniedResult(CompletableFuture.completedFuture(null)));
-                    return commandSender;
+                    return true;
                 }
                 default -> { /* Unknown positive = allow (fail-open) */ }
             }
@@ -174,26 +262,49 @@ public abstract class CommandGateInterceptor {
             reportFault(t);
             // Fail-open: allow command
         }
-        return commandSender;
+        return false;
     }
 
+    /** Denied future for the current handleCommand call (sync mode). */
     @Unique
-    private static final ThreadLocal<DeniedResult> denied = new ThreadLocal<>();
+    private static final ThreadLocal<CompletableFuture<Void>> denied = new ThreadLocal<>();
 
+    /**
+     * The command's own future, handed from gateCommandFuture to gateCommandExecution (async
+     * mode). A plain @Redirect cannot see handleCommand's locals, so the two redirects meet here.
+     */
     @Unique
-    private record DeniedResult(CompletableFuture<Void> future) {}
+    private static final ThreadLocal<CompletableFuture<Void>> pendingFuture = new ThreadLocal<>();
 
     /**
      * Redirect ForkJoinPool.commonPool().execute() to skip the Runnable when denied.
+     * In async mode, player commands are wrapped so the check runs on the pool thread.
      */
     @Redirect(
         method = "handleCommand(Lcom/hypixel/hytale/server/core/command/system/CommandSender;Ljava/lang/String;)Ljava/util/concurrent/CompletableFuture;",
         at = @At(value = "INVOKE",
             target = "Ljava/util/concurrent/ForkJoinPool;execute(Ljava/lang/Runnable;)V")
     )
-    private void gateCommandExecution(java.util.concurrent.ForkJoinPool pool, Runnable task) {
-        DeniedResult result = denied.get();
-        if (result != null) {
+    private void gateCommandExecution(java.util.concurrent.ForkJoinPool pool, Runnable task,
+                                      @Nonnull CommandSender sender,
+                                      @Nonnull String commandString) {
+        if (ASYNC) {
+            CompletableFuture<Void> future = pendingFuture.get();
+            pendingFuture.remove();
+            if (sender instanceof Player player && future != null) {
+                pool.execute(() -> {
+                    if (isCommandDenied(player, commandString)) {
+                        future.complete(null); // Command cancelled before it ran
+                        return;
+                    }
+                    task.run();
+                });
+                return;
+            }
+            pool.execute(task);
+            return;
+        }
+        if (denied.get() != null) {
             denied.remove();
             // Skip execution — command was denied
             return;
@@ -210,10 +321,16 @@ public abstract class CommandGateInterceptor {
             target = "java/util/concurrent/CompletableFuture")
     )
     private CompletableFuture<Void> gateCommandFuture() {
-        DeniedResult result = denied.get();
+        if (ASYNC) {
+            // The wrapped task completes this future itself when it denies
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            pendingFuture.set(future);
+            return future;
+        }
+        CompletableFuture<Void> result = denied.get();
         if (result != null) {
             // Don't remove yet — gateCommandExecution will clean up
-            return result.future();
+            return result;
         }
         return new CompletableFuture<>();
     }
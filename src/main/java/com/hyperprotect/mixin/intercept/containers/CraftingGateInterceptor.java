@@ -8,6 +8,7 @@ import com.hypixel.hytale.server.core.asset.type.item.config.CraftingRecipe;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -17,8 +18,10 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -36,6 +39,12 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *
  * <p>Verdict protocol: 0=ALLOW, 1=DENY_WITH_MESSAGE, 2=DENY_SILENT, 3=DENY_MOD_HANDLES.
  * Fail-open on error.
+ *
+ * <p>The verdict (and deny reason) is computed on the first craft at a bench and kept on the
+ * CraftingManager for the rest of that bench session. A session starts each time a bench
+ * window binds the manager ({@code setBench}, called from {@code BenchWindow.onOpen0}), so
+ * reopening the same bench asks again. Within a session the verdict is recomputed when the
+ * hook is replaced or the container_access epoch changes.
  */
 @Mixin(CraftingManager.class)
 public abstract class CraftingGateInterceptor {
@@ -62,6 +71,26 @@ public abstract class CraftingGateInterceptor {
     @Unique
     private static volatile Object[] hookCache;
 
+    /**
+     * Verdict for the current bench session, mutated in place when it is recomputed.
+     */
+    @Unique
+    private static final class CraftingSession {
+        public Object impl;
+        public long epoch;
+        public Ref<EntityStore> ref;
+        public UUID playerUuid;
+        public String worldName;
+        public int benchX;
+        public int benchY;
+        public int benchZ;
+        public int verdict;
+        public String reason;
+    }
+
+    @Unique
+    private CraftingSession craftingSession;
+
     @Unique
     private static final MethodType EVALUATE_TYPE = MethodType.methodType(
             int.class, UUID.class, String.class, int.class, int.class, int.class);
@@ -95,6 +124,74 @@ public abstract class CraftingGateInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Current epoch of a slot, or 0 if the bridge is not initialized.
+     */
+    @Unique
+    private static long epoch(int slot) {
+        Object epochs = System.getProperties().get("hyperprotect.bridge.epoch");
+        return epochs instanceof AtomicLongArray arr ? arr.get(slot) : 0L;
+    }
+
     @Unique
     private static Object[] resolveHook() {
         Object[] cached = hookCache;
@@ -124,13 +221,8 @@ public abstract class CraftingGateInterceptor {
     }
 
     @Unique
-    private static void formatReason(Object[] hook, Player player,
-                                     UUID playerUuid, String worldName,
-                                     int x, int y, int z) {
+    private static void sendReason(Player player, String raw) {
         try {
-            if (hook.length < 3 || hook[2] == null) return;
-            String raw = (String) ((MethodHandle) hook[2]).invoke(hook[0],
-                    playerUuid, worldName, x, y, z);
             if (raw == null || raw.isEmpty()) return;
             Object fmtHandle = getBridge(15);
             if (fmtHandle instanceof MethodHandle mh) {
@@ -142,6 +234,23 @@ public abstract class CraftingGateInterceptor {
         }
     }
 
+    /**
+     * Redirects the bench x write inside setBench() to end the current crafting session.
+     * setBench runs whenever a bench window opens, so a cached verdict never outlives the
+     * window it was computed for.
+     */
+    @Redirect(
+        method = "setBench",
+        at = @At(value = "FIELD",
+            target = "Lcom/hypixel/hytale/builtin/crafting/component/CraftingManager;x:I",
+            opcode = Opcodes.PUTFIELD),
+        require = 0
+    )
+    private void resetCraftingSession(CraftingManager self, int benchX) {
+        this.craftingSession = null;
+        this.x = benchX;
+    }
+
     /**
      * Redirects the isValidBenchForRecipe() call inside craftItem().
      * If the bench is invalid, returns false (original behavior).
@@ -162,12 +271,6 @@ public abstract class CraftingGateInterceptor {
 
         // Check protection hook
         try {
-            Object[] hook = resolveHook();
-            if (hook == null) return true; // No hook = allow
-
-            PlayerRef playerRef = componentAccessor.getComponent(ref, PlayerRef.getComponentType());
-            if (playerRef == null) return true;
-
             String worldName = null;
             try {
                 worldName = ((EntityStore) componentAccessor.getExternalData())
@@ -175,20 +278,72 @@ public abstract class CraftingGateInterceptor {
             } catch (Exception ignored) {}
             if (worldName == null) return true;
 
-            UUID playerUuid = playerRef.getUuid();
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 7); // container_access = 7
+            if (policy == 0) return true;
+            if (policy >= 1 && policy <= 3) {
+                if (policy == 1) {
+                    Player player = componentAccessor.getComponent(ref, Player.getComponentType());
+                    if (player != null) sendReason(player, policyReason(worldName, 7));
+                }
+                return false; // Deny crafting
+            }
 
-            int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                    hook[0], playerUuid, worldName,
-                    this.x, this.y, this.z);
+            Object[] hook = resolveHook();
+            if (hook == null) return true; // No hook = allow
 
-            if (verdict >= 1 && verdict <= 3) {
-                if (verdict == 1) {
-                    Player player = componentAccessor.getComponent(ref, Player.getComponentType());
-                    if (player != null) {
-                        formatReason(hook, player, playerUuid, worldName,
-                                this.x, this.y, this.z);
+            long epoch = epoch(7); // container_access = 7
+            CraftingSession session = this.craftingSession;
+            if (session == null || session.ref != ref || session.impl != hook[0] || session.epoch != epoch
+                    || session.benchX != this.x || session.benchY != this.y || session.benchZ != this.z
+                    || !session.worldName.equals(worldName)) {
+                // First craft at this bench — evaluate once for the session
+                PlayerRef playerRef = componentAccessor.getComponent(ref, PlayerRef.getComponentType());
+                if (playerRef == null || isBypassed(playerRef.getUuid(), 7)) return true; // container_access = 7
+                UUID playerUuid = playerRef.getUuid();
+
+                // Capability mask allows the whole chunk — skip the hook
+                int verdict = 0;
+                String reason = null;
+                if (!hasCapability(7, playerUuid, worldName, this.x, this.z)) {
+                    verdict = (int) ((MethodHandle) hook[1]).invoke(
+                            hook[0], playerUuid, worldName,
+                            this.x, this.y, this.z);
+                    if (verdict < 1 || verdict > 3) verdict = 0; // Fail-open for negative/unknown values
+                    if (verdict == 1 && hook.length >= 3 && hook[2] != null) {
+                        // A failing reason fetch must not turn the deny into an allow
+                        try {
+                            reason = (String) ((MethodHandle) hook[2]).invoke(
+                                    hook[0], playerUuid, worldName,
+                                    this.x, this.y, this.z);
+                        } catch (Throwable t) {
+                            reportFault(t);
+                            reason = null;
+                        }
                     }
                 }
+
+                if (session == null) {
+                    session = new CraftingSession();
+                    this.craftingSession = session;
+                }
+                session.impl = hook[0];
+                session.epoch = epoch;
+                session.ref = ref;
+                session.playerUuid = playerUuid;
+                session.worldName = worldName;
+                session.benchX = this.x;
+                session.benchY = this.y;
+                session.benchZ = this.z;
+                session.verdict = verdict;
+                session.reason = reason;
+            }
+
+            if (session.verdict != 0 && !isBypassed(session.playerUuid, 7)) { // container_access = 7
+                if (session.verdict == 1) {
+                    Player player = componentAccessor.getComponent(ref, Player.getComponentType());
+                    if (player != null) sendReason(player, session.reason);
+                }
                 return false; // Deny crafting
             }
         } catch (Throwable t) {
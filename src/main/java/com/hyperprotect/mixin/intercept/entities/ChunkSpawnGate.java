@@ -1,5 +1,6 @@
 package com.hyperprotect.mixin.intercept.entities;
 
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.spawning.SpawnTestResult;
 import com.hypixel.hytale.server.spawning.SpawningContext;
 import com.hypixel.hytale.server.spawning.world.system.WorldSpawnJobSystems;
@@ -11,7 +12,11 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -24,11 +29,29 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *     Verdict: 0=ALLOW, 2=DENY_SILENT
  * </pre>
  *
+ * <p>Optional, for per-chunk answers:
+ * <pre>
+ *   int evaluateCreatureSpawnChunk(String worldName, int chunkX, int chunkZ)
+ *     0=ALLOW whole chunk, 1-3=DENY whole chunk, anything else=MIXED (ask per position)
+ * </pre>
+ * The world name, world policy, hook resolution and startup decision are taken once per
+ * world per spawn tick; chunk answers are kept for the rest of that tick, so the spawn job
+ * systems' many candidates per chunk cost one hook call. Hook, policy or epoch changes
+ * apply from the next tick.
+ *
  * <p>Spawn startup behavior:
  * <ul>
  *   <li>If no hook AND not initialized AND startup pass disabled: block spawns</li>
  *   <li>If no hook AND initialized (or startup pass enabled): allow spawns</li>
  * </ul>
+ *
+ * <p>Check order: by default canSpawn() runs first and the hook only sees positions the
+ * server would accept. Per-world stats (shared with the other canSpawn gate, kept by
+ * SpawnOrder) track the cost of both checks, canSpawn's pass rate and the hook's deny rate;
+ * when running the hook first is cheaper on average (cheap hook, mostly denying), the order
+ * flips for that world. Every 32nd candidate runs in the other order so both rates stay
+ * measured over all candidates, not just those the other check let through.
+ * {@code -Dhyperprotect.spawn.order=can_spawn_first|hook_first} pins it.
  */
 @Mixin(WorldSpawnJobSystems.class)
 public class ChunkSpawnGate {
@@ -43,6 +66,50 @@ public class ChunkSpawnGate {
     private static final MethodType SPAWN_EVAL_TYPE = MethodType.methodType(
             int.class, String.class, int.class, int.class, int.class);
 
+    @Unique
+    private static final MethodType SPAWN_CHUNK_TYPE = MethodType.methodType(
+            int.class, String.class, int.class, int.class);
+
+    // --- Per-tick spawn state ---
+
+    /**
+     * Spawn decisions for one world during one tick, owned by that world's thread. Expires
+     * through {@code World.execute()} at the next tick.
+     */
+    @Unique
+    private static final class SpawnTick {
+        static final int MIXED = -1;
+
+        public final World world;
+        public final String worldName;
+        public int policy;
+        public Object[] hook;        // {impl, primary, chunk} or null when no usable hook
+        public int noHookVerdict;    // verdict when hook is null (startup behavior)
+        public final HashMap<Long, Integer> chunkVerdicts = new HashMap<>();
+        public volatile boolean expired;
+        public final Runnable expireTask = () -> expired = true;
+
+        public SpawnTick(World world, String worldName) {
+            this.world = world;
+            this.worldName = worldName;
+        }
+
+        static long chunkKey(int chunkX, int chunkZ) {
+            return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        }
+    }
+
+    @Unique
+    private static final ThreadLocal<SpawnTick> spawnTick = new ThreadLocal<>();
+
+    /** Order override: 0 = adaptive, 1 = canSpawn first, 2 = hook first. */
+    @Unique
+    private static final int ORDER_MODE = switch (System.getProperty("hyperprotect.spawn.order", "adaptive")) {
+        case "can_spawn_first" -> 1;
+        case "hook_first" -> 2;
+        default -> 0;
+    };
+
     static {
         System.setProperty("hyperprotect.intercept.world_spawn", "true");
     }
@@ -68,6 +135,73 @@ public class ChunkSpawnGate {
         }
     }
 
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Per-world spawn stats shared by the canSpawn gates, created on first use; null when
+     * the order is pinned or the plugin has not published the recorder. The layout and the
+     * order decision live in SpawnOrder, reached through bridge slot 28; the counters are an
+     * AtomicLongArray because both gates write them from every world thread.
+     */
+    @Unique
+    @SuppressWarnings("unchecked")
+    private static AtomicLongArray spawnStats(String worldName) {
+        if (worldName == null || ORDER_MODE != 0 || !(getBridge(28) instanceof MethodHandle)) return null;
+        try {
+            Object stats = System.getProperties().get("hyperprotect.spawn.stats");
+            if (stats == null) {
+                System.getProperties().putIfAbsent("hyperprotect.spawn.stats", new ConcurrentHashMap<String, AtomicLongArray>());
+                stats = System.getProperties().get("hyperprotect.spawn.stats");
+            }
+            return ((ConcurrentHashMap<String, AtomicLongArray>) stats)
+                    .computeIfAbsent(worldName, k -> new AtomicLongArray(10)); // SpawnOrder.LENGTH
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Order for this candidate: the world's chosen order, except every 32nd candidate runs
+     * the other way round so both checks keep being measured while running first.
+     */
+    @Unique
+    private static boolean hookFirst(AtomicLongArray stats) {
+        if (ORDER_MODE != 0) return ORDER_MODE == 2;
+        if (stats == null) return false;
+        boolean chosen = stats.get(8) == 1; // SpawnOrder.HOOK_FIRST
+        return stats.incrementAndGet(9) % 32 == 0 ? !chosen : chosen; // CANDIDATES, EXPLORE_EVERY
+    }
+
+    /**
+     * Hands one candidate to SpawnOrder.record. A negative nanos value means that check
+     * did not run.
+     */
+    @Unique
+    private static void recordSpawn(AtomicLongArray stats, boolean hookFirst, long canSpawnNanos,
+                                    boolean canSpawnPassed, long hookNanos, boolean hookDenied) {
+        if (stats == null) return;
+        try {
+            if (getBridge(28) instanceof MethodHandle record) { // spawn_order_handle
+                record.invoke(stats, hookFirst, canSpawnNanos, canSpawnPassed, hookNanos, hookDenied);
+            }
+        } catch (Throwable t) {
+            reportFault(t);
+        }
+    }
+
     /**
      * Redirect canSpawn() in trySpawn to evaluate the mob_spawn hook.
      * If spawning should be blocked, returns FAIL_NOT_SPAWNABLE.
@@ -81,24 +215,54 @@ public class ChunkSpawnGate {
         require = 0
     )
     private static SpawnTestResult gateCreatureSpawn(SpawningContext context) {
+        SpawnTick tick = currentTick(context.world);
+        String worldName = tick != null ? tick.worldName
+                : (context.world != null ? context.world.getName() : null);
+        AtomicLongArray stats = spawnStats(worldName);
+
+        if (hookFirst(stats)) {
+            // Hook first: a deny skips canSpawn's terrain and light checks
+            long start = System.nanoTime();
+            boolean denied = isSpawnDenied(context, worldName, tick);
+            long hookNanos = System.nanoTime() - start;
+            if (denied) {
+                recordSpawn(stats, true, -1, false, hookNanos, true);
+                return SpawnTestResult.FAIL_NOT_SPAWNABLE;
+            }
+            start = System.nanoTime();
+            SpawnTestResult original = context.canSpawn();
+            recordSpawn(stats, true, System.nanoTime() - start, original == SpawnTestResult.TEST_OK,
+                    hookNanos, false);
+            return original;
+        }
+
+        long start = System.nanoTime();
         SpawnTestResult original = context.canSpawn();
+        long canSpawnNanos = System.nanoTime() - start;
 
         // Only intercept if the server would allow the spawn
         if (original != SpawnTestResult.TEST_OK) {
+            recordSpawn(stats, false, canSpawnNanos, false, -1, false);
             return original;
         }
 
+        start = System.nanoTime();
+        boolean denied = isSpawnDenied(context, worldName, tick);
+        recordSpawn(stats, false, canSpawnNanos, true, System.nanoTime() - start, denied);
+        return denied ? SpawnTestResult.FAIL_NOT_SPAWNABLE : original;
+    }
+
+    /**
+     * Runs the mob_spawn check. Faults fail open.
+     */
+    @Unique
+    private static boolean isSpawnDenied(SpawningContext context, String worldName, SpawnTick tick) {
         try {
-            int verdict = querySpawnVerdict(context);
-            if (verdict != 0) {
-                return SpawnTestResult.FAIL_NOT_SPAWNABLE;
-            }
+            return (tick != null ? queryTickVerdict(context, tick) : querySpawnVerdict(context, worldName)) != 0;
         } catch (Throwable t) {
             reportFault(t);
-            // Fail-open: allow spawn
+            return false; // Fail-open: allow spawn
         }
-
-        return original;
     }
 
     /**
@@ -107,7 +271,11 @@ public class ChunkSpawnGate {
      * @return verdict int: 0=ALLOW, non-zero=DENY
      */
     @Unique
-    private static int querySpawnVerdict(SpawningContext context) throws Throwable {
+    private static int querySpawnVerdict(SpawningContext context, String worldName) throws Throwable {
+        // World policy decides without the hook
+        int policy = worldPolicy(worldName, 8); // mob_spawn = 8
+        if (policy >= 0 && policy <= 3) return policy;
+
         Object[] cached = hookCache;
 
         // Re-resolve if hook changed or not yet cached
@@ -121,18 +289,10 @@ public class ChunkSpawnGate {
                 }
                 return 0;
             }
-            try {
-                MethodHandle primary = MethodHandles.publicLookup().findVirtual(
-                    current.getClass(), "evaluateCreatureSpawn", SPAWN_EVAL_TYPE);
-                cached = new Object[] { current, primary };
-                hookCache = cached;
-            } catch (Exception e) {
-                reportFault(e);
-                return 0;
-            }
+            cached = resolveHook(current);
+            if (cached == null) return 0;
         }
 
-        String worldName = context.world != null ? context.world.getName() : null;
         if (worldName == null) return 0;
 
         int x = (int) context.xSpawn;
@@ -145,6 +305,91 @@ public class ChunkSpawnGate {
         return verdict < 0 ? 0 : verdict;
     }
 
+    /**
+     * Verdict through this tick's state: policy, hook and startup decision were taken when
+     * the tick started; chunk answers are reused until it ends.
+     */
+    @Unique
+    private static int queryTickVerdict(SpawningContext context, SpawnTick tick) throws Throwable {
+        if (tick.policy >= 0 && tick.policy <= 3) return tick.policy;
+        Object[] cached = tick.hook;
+        if (cached == null) return tick.noHookVerdict;
+
+        int x = (int) context.xSpawn;
+        int y = (int) context.ySpawn;
+        int z = (int) context.zSpawn;
+
+        if (cached[2] != null) {
+            long key = SpawnTick.chunkKey(x >> 5, z >> 5);
+            Integer chunkVerdict = tick.chunkVerdicts.get(key);
+            if (chunkVerdict == null) {
+                int v = (int) ((MethodHandle) cached[2]).invoke(cached[0], tick.worldName, x >> 5, z >> 5);
+                chunkVerdict = v == 0 ? 0 : (v >= 1 && v <= 3 ? 2 : SpawnTick.MIXED);
+                tick.chunkVerdicts.put(key, chunkVerdict);
+            }
+            if (chunkVerdict != SpawnTick.MIXED) return chunkVerdict;
+        }
+
+        int verdict = (int) ((MethodHandle) cached[1]).invoke(cached[0], tick.worldName, x, y, z);
+
+        // Fail-open for negative/unknown values
+        return verdict < 0 ? 0 : verdict;
+    }
+
+    /**
+     * This thread's spawn state for the world, started on first use in a tick. Returns null
+     * (per-candidate path) if the world is unknown or the expiry task cannot be scheduled.
+     */
+    @Unique
+    private static SpawnTick currentTick(World world) {
+        if (world == null) return null;
+        SpawnTick tick = spawnTick.get();
+        if (tick != null && tick.world == world && !tick.expired) return tick;
+
+        SpawnTick fresh = new SpawnTick(world, world.getName());
+        try {
+            world.execute(fresh.expireTask);
+        } catch (Exception e) {
+            spawnTick.remove();
+            return null;
+        }
+        fresh.policy = worldPolicy(fresh.worldName, 8); // mob_spawn = 8
+        Object current = getBridge(8);
+        if (current == null) {
+            hookCache = null;
+            // No hook: startup behavior decided once for the tick
+            fresh.noHookVerdict = !isSpawnInitialized() && !isStartupPassEnabled() ? 2 : 0;
+        } else {
+            Object[] cached = hookCache;
+            fresh.hook = cached != null && cached[0] == current ? cached : resolveHook(current);
+        }
+        spawnTick.set(fresh);
+        return fresh;
+    }
+
+    /**
+     * Resolves and caches {impl, primary, chunk} for a hook; chunk is null when the hook has
+     * no {@code evaluateCreatureSpawnChunk}. Returns null (allow) if the primary is missing.
+     */
+    @Unique
+    private static Object[] resolveHook(Object current) {
+        try {
+            MethodHandle primary = MethodHandles.publicLookup().findVirtual(
+                current.getClass(), "evaluateCreatureSpawn", SPAWN_EVAL_TYPE);
+            MethodHandle chunk = null;
+            try {
+                chunk = MethodHandles.publicLookup().findVirtual(
+                    current.getClass(), "evaluateCreatureSpawnChunk", SPAWN_CHUNK_TYPE);
+            } catch (NoSuchMethodException ignored) {}
+            Object[] cached = new Object[] { current, primary, chunk };
+            hookCache = cached;
+            return cached;
+        } catch (Exception e) {
+            reportFault(e);
+            return null;
+        }
+    }
+
     @Unique
     private static boolean isSpawnInitialized() {
         return Boolean.TRUE.equals(getBridge(13));
@@ -4,6 +4,8 @@ import com.hypixel.hytale.component.AddReason;
 import com.hypixel.hytale.component.Holder;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import org.spongepowered.asm.mixin.Mixin;
@@ -14,6 +16,7 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.HashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
@@ -27,9 +30,27 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *     Verdict: 0=ALLOW, 2=DENY_SILENT
  * </pre>
  *
+ * <p>Optional, load-specific answers:
+ * <pre>
+ *   int evaluateEntityLoad(String worldName, int x, int y, int z)
+ *     Verdict for one saved entity at its block position: 0=ALLOW, 1-3=DENY
+ *   int evaluateEntityLoadChunk(String worldName, int chunkX, int chunkZ)
+ *     0=ALLOW whole chunk, 1-3=DENY whole chunk, anything else=MIXED (ask per entity)
+ * </pre>
+ * Real positions only go to these methods, never to the spawn methods: a position where
+ * nothing may spawn (e.g. inside a claim) can still hold saved entities that must keep
+ * loading, and a deny here removes them. Without {@code evaluateEntityLoad}, entities keep
+ * the original contract of one {@code evaluateCreatureSpawn(worldName, 0, 0, 0)} answer.
+ *
  * <p>Only intercepts {@link AddReason#LOAD} — other reasons pass through.
  * Checks that externalData is an EntityStore with a world context before evaluating.
- * Position is passed as 0,0,0.
+ * The position comes from the Holder's TransformComponent; entities without one get the
+ * 0,0,0 answer. That answer and the chunk answers are kept per world for the current tick,
+ * so a chunk load that restores many entities asks the hook once. Replacing the hook drops
+ * the tick state immediately.
+ *
+ * <p>The world's mob_spawn policy does not apply here: a world that denies spawning
+ * everywhere (e.g. a lobby) must not delete its saved entities on load.
  */
 @Mixin(Store.class)
 public class EntityLoadGate {
@@ -44,6 +65,43 @@ public class EntityLoadGate {
     private static final MethodType SPAWN_EVAL_TYPE = MethodType.methodType(
             int.class, String.class, int.class, int.class, int.class);
 
+    @Unique
+    private static final MethodType LOAD_CHUNK_TYPE = MethodType.methodType(
+            int.class, String.class, int.class, int.class);
+
+    // --- Per-tick load state ---
+
+    /**
+     * Load decisions for one world during one tick. Expires through {@code World.execute()}
+     * at the next tick, or earlier when the hook in slot 8 changes.
+     */
+    @Unique
+    private static final class LoadTick {
+        static final int MIXED = -1;
+        static final int UNSET = -2;
+
+        public final World world;
+        public final String worldName;
+        public Object hookImpl;      // slot 8 when the tick started
+        public Object[] hook;        // {impl, primary, chunk, load} or null when no usable hook
+        public int unplacedVerdict = UNSET; // evaluateCreatureSpawn at 0,0,0
+        public final HashMap<Long, Integer> chunkVerdicts = new HashMap<>();
+        public volatile boolean expired;
+        public final Runnable expireTask = () -> expired = true;
+
+        public LoadTick(World world, String worldName) {
+            this.world = world;
+            this.worldName = worldName;
+        }
+
+        static long chunkKey(int chunkX, int chunkZ) {
+            return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        }
+    }
+
+    @Unique
+    private static final ThreadLocal<LoadTick> loadTick = new ThreadLocal<>();
+
     static {
         System.setProperty("hyperprotect.intercept.entity_load", "true");
     }
@@ -91,7 +149,7 @@ public class EntityLoadGate {
         }
 
         try {
-            int verdict = queryLoadVerdict(store);
+            int verdict = queryLoadVerdict(store, holder);
             if (verdict != 0) {
                 return null; // Block entity load
             }
@@ -109,27 +167,7 @@ public class EntityLoadGate {
      * @return verdict int: 0=ALLOW, non-zero=DENY
      */
     @Unique
-    private static int queryLoadVerdict(Store store) throws Throwable {
-        Object[] cached = hookCache;
-
-        // Re-resolve if hook changed or not yet cached
-        Object current = getBridge(8);
-        if (cached == null || cached[0] != current) {
-            if (current == null) {
-                hookCache = null;
-                return 0; // No hook = allow
-            }
-            try {
-                MethodHandle primary = MethodHandles.publicLookup().findVirtual(
-                    current.getClass(), "evaluateCreatureSpawn", SPAWN_EVAL_TYPE);
-                cached = new Object[] { current, primary };
-                hookCache = cached;
-            } catch (Exception e) {
-                reportFault(e);
-                return 0;
-            }
-        }
-
+    private static int queryLoadVerdict(Store store, Holder holder) throws Throwable {
         // Check if this is an EntityStore with a world context
         Object externalData = store.getExternalData();
         if (!(externalData instanceof EntityStore entityStore)) {
@@ -139,12 +177,115 @@ public class EntityLoadGate {
         World world = entityStore.getWorld();
         if (world == null) return 0;
 
-        String worldName = world.getName();
+        LoadTick tick = currentTick(world);
+        if (tick == null) return 0; // Expiry cannot be scheduled — fail-open
 
-        // Entity load position not available — pass 0,0,0
-        int verdict = (int) ((MethodHandle) cached[1]).invoke(cached[0], worldName, 0, 0, 0);
+        Object[] cached = tick.hook;
+        if (cached == null) return 0; // No hook = allow
 
-        // Fail-open for negative/unknown values
-        return verdict < 0 ? 0 : verdict;
+        Vector3d position = loadPosition(holder);
+        if (position == null) return unplacedVerdict(cached, tick);
+
+        int x = (int) Math.floor(position.getX());
+        int y = (int) Math.floor(position.getY());
+        int z = (int) Math.floor(position.getZ());
+
+        if (cached[2] != null) {
+            long key = LoadTick.chunkKey(x >> 5, z >> 5);
+            Integer chunkVerdict = tick.chunkVerdicts.get(key);
+            if (chunkVerdict == null) {
+                int v = (int) ((MethodHandle) cached[2]).invoke(cached[0], tick.worldName, x >> 5, z >> 5);
+                chunkVerdict = v == 0 ? 0 : (v >= 1 && v <= 3 ? 2 : LoadTick.MIXED);
+                tick.chunkVerdicts.put(key, chunkVerdict);
+            }
+            if (chunkVerdict != LoadTick.MIXED) return chunkVerdict;
+        }
+
+        // Real positions only go to the load method; spawn rules must not remove saved entities
+        if (cached[3] == null) return unplacedVerdict(cached, tick);
+        int verdict = (int) ((MethodHandle) cached[3]).invoke(cached[0], tick.worldName, x, y, z);
+        return verdict >= 1 && verdict <= 3 ? verdict : 0; // Fail-open for negative/unknown values
+    }
+
+    /**
+     * The original load contract: one {@code evaluateCreatureSpawn(worldName, 0, 0, 0)} answer
+     * per world per tick.
+     */
+    @Unique
+    private static int unplacedVerdict(Object[] cached, LoadTick tick) throws Throwable {
+        if (tick.unplacedVerdict == LoadTick.UNSET) {
+            int verdict = (int) ((MethodHandle) cached[1]).invoke(cached[0], tick.worldName, 0, 0, 0);
+            tick.unplacedVerdict = verdict < 0 ? 0 : verdict; // Fail-open for negative values
+        }
+        return tick.unplacedVerdict;
+    }
+
+    /**
+     * Saved position of the entity being loaded, or null if the Holder has no transform.
+     */
+    @Unique
+    @SuppressWarnings("unchecked")
+    private static Vector3d loadPosition(Holder holder) {
+        Object transform = holder != null ? holder.getComponent(TransformComponent.getComponentType()) : null;
+        return transform instanceof TransformComponent t ? t.getPosition() : null;
+    }
+
+    /**
+     * This thread's load state for the world, started on first use in a tick and restarted
+     * when the hook no longer matches it. Returns null if the expiry task cannot
+     * be scheduled.
+     */
+    @Unique
+    private static LoadTick currentTick(World world) {
+        LoadTick tick = loadTick.get();
+        Object current = getBridge(8);
+        if (tick != null && tick.world == world && !tick.expired && tick.hookImpl == current) {
+            return tick;
+        }
+
+        LoadTick fresh = new LoadTick(world, world.getName());
+        try {
+            world.execute(fresh.expireTask);
+        } catch (Exception e) {
+            loadTick.remove();
+            return null;
+        }
+        fresh.hookImpl = current;
+        if (current == null) {
+            hookCache = null;
+        } else {
+            Object[] cached = hookCache;
+            fresh.hook = cached != null && cached[0] == current ? cached : resolveHook(current);
+        }
+        loadTick.set(fresh);
+        return fresh;
+    }
+
+    /**
+     * Resolves and caches {impl, primary, chunk, load} for a hook; chunk and load are null when
+     * the hook has no {@code evaluateEntityLoadChunk} or {@code evaluateEntityLoad}. Returns null (allow) if the primary is missing.
+     */
+    @Unique
+    private static Object[] resolveHook(Object current) {
+        try {
+            MethodHandle primary = MethodHandles.publicLookup().findVirtual(
+                current.getClass(), "evaluateCreatureSpawn", SPAWN_EVAL_TYPE);
+            MethodHandle chunk = null;
+            try {
+                chunk = MethodHandles.publicLookup().findVirtual(
+                    current.getClass(), "evaluateEntityLoadChunk", LOAD_CHUNK_TYPE);
+            } catch (NoSuchMethodException ignored) {}
+            MethodHandle load = null;
+            try {
+                load = MethodHandles.publicLookup().findVirtual(
+                    current.getClass(), "evaluateEntityLoad", SPAWN_EVAL_TYPE);
+            } catch (NoSuchMethodException ignored) {}
+            Object[] cached = new Object[] { current, primary, chunk, load };
+            hookCache = cached;
+            return cached;
+        } catch (Exception e) {
+            reportFault(e);
+            return null;
+        }
     }
 }
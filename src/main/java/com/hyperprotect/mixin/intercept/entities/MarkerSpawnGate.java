@@ -11,7 +11,10 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -29,6 +32,14 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *   <li>If no hook AND not initialized AND startup pass disabled: block spawns</li>
  *   <li>If no hook AND initialized (or startup pass enabled): allow spawns</li>
  * </ul>
+ *
+ * <p>Check order: by default canSpawn() runs first and the hook only sees positions the
+ * server would accept. Per-world stats (shared with the other canSpawn gate, kept by
+ * SpawnOrder) track the cost of both checks, canSpawn's pass rate and the hook's deny rate;
+ * when running the hook first is cheaper on average (cheap hook, mostly denying), the order
+ * flips for that world. Every 32nd candidate runs in the other order so both rates stay
+ * measured over all candidates, not just those the other check let through.
+ * {@code -Dhyperprotect.spawn.order=can_spawn_first|hook_first} pins it.
  */
 @Mixin(SpawnMarkerEntity.class)
 public class MarkerSpawnGate {
@@ -43,6 +54,14 @@ public class MarkerSpawnGate {
     private static final MethodType SPAWN_EVAL_TYPE = MethodType.methodType(
             int.class, String.class, int.class, int.class, int.class);
 
+    /** Order override: 0 = adaptive, 1 = canSpawn first, 2 = hook first. */
+    @Unique
+    private static final int ORDER_MODE = switch (System.getProperty("hyperprotect.spawn.order", "adaptive")) {
+        case "can_spawn_first" -> 1;
+        case "hook_first" -> 2;
+        default -> 0;
+    };
+
     static {
         System.setProperty("hyperprotect.intercept.spawn_marker", "true");
     }
@@ -68,6 +87,73 @@ public class MarkerSpawnGate {
         }
     }
 
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Per-world spawn stats shared by the canSpawn gates, created on first use; null when
+     * the order is pinned or the plugin has not published the recorder. The layout and the
+     * order decision live in SpawnOrder, reached through bridge slot 28; the counters are an
+     * AtomicLongArray because both gates write them from every world thread.
+     */
+    @Unique
+    @SuppressWarnings("unchecked")
+    private static AtomicLongArray spawnStats(String worldName) {
+        if (worldName == null || ORDER_MODE != 0 || !(getBridge(28) instanceof MethodHandle)) return null;
+        try {
+            Object stats = System.getProperties().get("hyperprotect.spawn.stats");
+            if (stats == null) {
+                System.getProperties().putIfAbsent("hyperprotect.spawn.stats", new ConcurrentHashMap<String, AtomicLongArray>());
+                stats = System.getProperties().get("hyperprotect.spawn.stats");
+            }
+            return ((ConcurrentHashMap<String, AtomicLongArray>) stats)
+                    .computeIfAbsent(worldName, k -> new AtomicLongArray(10)); // SpawnOrder.LENGTH
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Order for this candidate: the world's chosen order, except every 32nd candidate runs
+     * the other way round so both checks keep being measured while running first.
+     */
+    @Unique
+    private static boolean hookFirst(AtomicLongArray stats) {
+        if (ORDER_MODE != 0) return ORDER_MODE == 2;
+        if (stats == null) return false;
+        boolean chosen = stats.get(8) == 1; // SpawnOrder.HOOK_FIRST
+        return stats.incrementAndGet(9) % 32 == 0 ? !chosen : chosen; // CANDIDATES, EXPLORE_EVERY
+    }
+
+    /**
+     * Hands one candidate to SpawnOrder.record. A negative nanos value means that check
+     * did not run.
+     */
+    @Unique
+    private static void recordSpawn(AtomicLongArray stats, boolean hookFirst, long canSpawnNanos,
+                                    boolean canSpawnPassed, long hookNanos, boolean hookDenied) {
+        if (stats == null) return;
+        try {
+            if (getBridge(28) instanceof MethodHandle record) { // spawn_order_handle
+                record.invoke(stats, hookFirst, canSpawnNanos, canSpawnPassed, hookNanos, hookDenied);
+            }
+        } catch (Throwable t) {
+            reportFault(t);
+        }
+    }
+
     /**
      * Redirect canSpawn() on SpawningContext to evaluate the mob_spawn hook.
      * If spawning should be blocked, returns FAIL_NOT_SPAWNABLE.
@@ -81,24 +167,52 @@ public class MarkerSpawnGate {
         require = 0
     )
     private SpawnTestResult gateCreatureSpawn(SpawningContext context) {
+        String worldName = context.world != null ? context.world.getName() : null;
+        AtomicLongArray stats = spawnStats(worldName);
+
+        if (hookFirst(stats)) {
+            // Hook first: a deny skips canSpawn's terrain and light checks
+            long start = System.nanoTime();
+            boolean denied = isSpawnDenied(context, worldName);
+            long hookNanos = System.nanoTime() - start;
+            if (denied) {
+                recordSpawn(stats, true, -1, false, hookNanos, true);
+                return SpawnTestResult.FAIL_NOT_SPAWNABLE;
+            }
+            start = System.nanoTime();
+            SpawnTestResult original = context.canSpawn();
+            recordSpawn(stats, true, System.nanoTime() - start, original == SpawnTestResult.TEST_OK,
+                    hookNanos, false);
+            return original;
+        }
+
+        long start = System.nanoTime();
         SpawnTestResult original = context.canSpawn();
+        long canSpawnNanos = System.nanoTime() - start;
 
         // Only intercept if the server would allow the spawn
         if (original != SpawnTestResult.TEST_OK) {
+            recordSpawn(stats, false, canSpawnNanos, false, -1, false);
             return original;
         }
 
+        start = System.nanoTime();
+        boolean denied = isSpawnDenied(context, worldName);
+        recordSpawn(stats, false, canSpawnNanos, true, System.nanoTime() - start, denied);
+        return denied ? SpawnTestResult.FAIL_NOT_SPAWNABLE : original;
+    }
+
+    /**
+     * Runs the mob_spawn check. Faults fail open.
+     */
+    @Unique
+    private static boolean isSpawnDenied(SpawningContext context, String worldName) {
         try {
-            int verdict = querySpawnVerdict(context);
-            if (verdict != 0) {
-                return SpawnTestResult.FAIL_NOT_SPAWNABLE;
-            }
+            return querySpawnVerdict(context, worldName) != 0;
         } catch (Throwable t) {
             reportFault(t);
-            // Fail-open: allow spawn
+            return false; // Fail-open: allow spawn
         }
-
-        return original;
     }
 
     /**
@@ -107,7 +221,11 @@ public class MarkerSpawnGate {
      * @return verdict int: 0=ALLOW, non-zero=DENY
      */
     @Unique
-    private static int querySpawnVerdict(SpawningContext context) throws Throwable {
+    private static int querySpawnVerdict(SpawningContext context, String worldName) throws Throwable {
+        // World policy decides without the hook
+        int policy = worldPolicy(worldName, 8); // mob_spawn = 8
+        if (policy >= 0 && policy <= 3) return policy;
+
         Object[] cached = hookCache;
 
         // Re-resolve if hook changed or not yet cached
@@ -132,7 +250,6 @@ public class MarkerSpawnGate {
             }
         }
 
-        String worldName = context.world != null ? context.world.getName() : null;
         if (worldName == null) return 0;
 
         int x = (int) context.xSpawn;
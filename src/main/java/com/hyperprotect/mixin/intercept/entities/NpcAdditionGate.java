@@ -15,6 +15,7 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
@@ -69,6 +70,21 @@ public class NpcAdditionGate {
         }
     }
 
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
     /**
      * Redirect addEntity calls to evaluate the mob_spawn hook.
      * Returns null (spawn failed) if the hook blocks the spawn.
@@ -108,6 +124,15 @@ public class NpcAdditionGate {
      */
     @Unique
     private static int querySpawnVerdict(Store<EntityStore> store) throws Throwable {
+        World world = store.getExternalData() != null ? store.getExternalData().getWorld() : null;
+        if (world == null) return 0;
+
+        String worldName = world.getName();
+
+        // World policy decides without the hook
+        int policy = worldPolicy(worldName, 8); // mob_spawn = 8
+        if (policy >= 0 && policy <= 3) return policy;
+
         Object[] cached = hookCache;
 
         // Re-resolve if hook changed or not yet cached
@@ -128,11 +153,6 @@ public class NpcAdditionGate {
             }
         }
 
-        World world = store.getExternalData() != null ? store.getExternalData().getWorld() : null;
-        if (world == null) return 0;
-
-        String worldName = world.getName();
-
         // NPC spawn position not available at this point — pass 0,0,0
         int verdict = (int) ((MethodHandle) cached[1]).invoke(cached[0], worldName, 0, 0, 0);
 
@@ -25,6 +25,8 @@ import java.lang.invoke.MethodType;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
@@ -42,6 +44,16 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *   <li>Primary: {@code double[] evaluateRespawn(UUID, String, int, int, int)} —
  *       returns {@code double[3]} with [x, y, z] to override respawn location,
  *       or {@code null} to use default respawn logic</li>
+ *   <li>Optional, preferred when present:
+ *       {@code CompletableFuture<double[]> evaluateRespawnAsync(UUID, String, int, int, int)} —
+ *       the future is chained into the one getRespawnPosition returns. Completing with
+ *       {@code null}, failing, or not completing within {@code hyperprotect.respawn.async_timeout}
+ *       ms (default 250) falls back to the default respawn logic. Returning a null future
+ *       means no override.</li>
+ *   <li>Optional, used when there is no async variant:
+ *       {@code long evaluateRespawnPacked(UUID, String, int, int, int)} — a block position
+ *       packed by {@code ProtectionBridge.packRespawn}, or {@code Long.MIN_VALUE} for no
+ *       override. Avoids the {@code double[]} allocation.</li>
  * </ul>
  *
  * <p>Fail-open on error (uses default respawn location).
@@ -59,9 +71,27 @@ public class RespawnInterceptor {
     private static final MethodType EVALUATE_TYPE = MethodType.methodType(
             double[].class, UUID.class, String.class, int.class, int.class, int.class);
 
+    @Unique
+    private static final MethodType EVALUATE_ASYNC_TYPE = MethodType.methodType(
+            CompletableFuture.class, UUID.class, String.class, int.class, int.class, int.class);
+
+    @Unique
+    private static final MethodType EVALUATE_PACKED_TYPE = MethodType.methodType(
+            long.class, UUID.class, String.class, int.class, int.class, int.class);
+
+    @Unique
+    private static final long NO_RESPAWN = Long.MIN_VALUE; // ProtectionBridge.NO_RESPAWN
+
+    @Unique
+    private static final long ASYNC_TIMEOUT_MS = Long.getLong("hyperprotect.respawn.async_timeout", 250L);
+
     @Unique
     private static final ThreadLocal<Transform> respawnOverride = new ThreadLocal<>();
 
+    /** Async hook answer waiting to be chained into the return path. */
+    @Unique
+    private static final ThreadLocal<CompletableFuture<double[]>> respawnPending = new ThreadLocal<>();
+
     static {
         System.setProperty("hyperprotect.intercept.respawn", "true");
     }
@@ -106,9 +136,13 @@ public class RespawnInterceptor {
             return cached;
         }
         try {
-            MethodHandle primary = MethodHandles.publicLookup().findVirtual(
-                impl.getClass(), "evaluateRespawn", EVALUATE_TYPE);
-            cached = new Object[] { impl, primary };
+            MethodHandle primary = findOptional(impl, "evaluateRespawn", EVALUATE_TYPE);
+            MethodHandle async = findOptional(impl, "evaluateRespawnAsync", EVALUATE_ASYNC_TYPE);
+            MethodHandle packed = findOptional(impl, "evaluateRespawnPacked", EVALUATE_PACKED_TYPE);
+            if (primary == null && async == null && packed == null) {
+                throw new NoSuchMethodException("evaluateRespawn on " + impl.getClass().getName());
+            }
+            cached = new Object[] { impl, primary, async, packed };
             hookCache = cached;
             return cached;
         } catch (Exception e) {
@@ -117,6 +151,35 @@ public class RespawnInterceptor {
         }
     }
 
+    @Unique
+    private static MethodHandle findOptional(Object impl, String name, MethodType type) throws IllegalAccessException {
+        try {
+            return MethodHandles.publicLookup().findVirtual(impl.getClass(), name, type);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Bounds an async hook answer by the timeout without completing the consumer's future.
+     */
+    @Unique
+    private static CompletableFuture<double[]> withTimeout(CompletableFuture<double[]> pending) {
+        return pending.copy().completeOnTimeout(null, ASYNC_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Override transform from an async answer, or null to use the default logic.
+     */
+    @Unique
+    private static Transform asyncOverride(double[] coords, Throwable error) {
+        if (error != null) {
+            reportFault(error);
+            return null; // Fail-open: use default respawn
+        }
+        return coords != null && coords.length >= 3 ? new Transform(coords[0], coords[1], coords[2]) : null;
+    }
+
     // --- Redirect 1: Check hook when getting Player component (first getComponent call) ---
 
     /**
@@ -135,6 +198,10 @@ public class RespawnInterceptor {
         Component result = (Component) ca.getComponent(ref, type);
         if (result == null) return null;
 
+        // Nothing left over from a getRespawnPosition call that took another return path
+        respawnOverride.remove();
+        respawnPending.remove();
+
         try {
             Object[] hook = resolveHook();
             if (hook == null) return result;
@@ -162,11 +229,27 @@ public class RespawnInterceptor {
                 deathZ = (int) pos.getZ();
             }
 
-            double[] override = (double[]) ((MethodHandle) hook[1]).invoke(
-                    hook[0], playerUuid, worldName, deathX, deathY, deathZ);
+            if (hook[2] != null) {
+                // Async: chained into the returned future by redirect 2 or 3
+                CompletableFuture<double[]> pending = (CompletableFuture<double[]>) ((MethodHandle) hook[2]).invoke(
+                        hook[0], playerUuid, worldName, deathX, deathY, deathZ);
+                if (pending != null) respawnPending.set(pending);
+            } else if (hook[3] != null) {
+                long packed = (long) ((MethodHandle) hook[3]).invoke(
+                        hook[0], playerUuid, worldName, deathX, deathY, deathZ);
+                if (packed != NO_RESPAWN) {
+                    int x = (int) (packed >> 38);
+                    int z = (int) (packed << 26 >> 38);
+                    int y = (int) (packed << 52 >> 52);
+                    respawnOverride.set(new Transform(x + 0.5, y, z + 0.5));
+                }
+            } else {
+                double[] override = (double[]) ((MethodHandle) hook[1]).invoke(
+                        hook[0], playerUuid, worldName, deathX, deathY, deathZ);
 
-            if (override != null && override.length >= 3) {
-                respawnOverride.set(new Transform(override[0], override[1], override[2]));
+                if (override != null && override.length >= 3) {
+                    respawnOverride.set(new Transform(override[0], override[1], override[2]));
+                }
             }
         } catch (Throwable t) {
             reportFault(t);
@@ -194,6 +277,15 @@ public class RespawnInterceptor {
             respawnOverride.remove();
             return CompletableFuture.completedFuture(override);
         }
+        CompletableFuture<double[]> pending = respawnPending.get();
+        if (pending != null) {
+            respawnPending.remove();
+            Transform fallback = (Transform) value;
+            return withTimeout(pending).handle((coords, error) -> {
+                Transform async = asyncOverride(coords, error);
+                return async != null ? async : fallback;
+            });
+        }
         return CompletableFuture.completedFuture((Transform) value);
     }
 
@@ -218,6 +310,18 @@ public class RespawnInterceptor {
             respawnOverride.remove();
             return CompletableFuture.completedFuture(override);
         }
+        CompletableFuture<double[]> pending = respawnPending.get();
+        if (pending != null) {
+            respawnPending.remove();
+            // Default spawn point logic touches the world — run it back on the world thread
+            Executor onWorld = world::execute;
+            return withTimeout(pending)
+                    .handle(RespawnInterceptor::asyncOverride)
+                    .thenComposeAsync(async -> async != null
+                            ? CompletableFuture.completedFuture(async)
+                            : tryUseSpawnPoint(world, sortedRespawnPoints, index, ref, playerComponent, boundingBox),
+                            onWorld);
+        }
         return tryUseSpawnPoint(world, sortedRespawnPoints, index, ref, playerComponent, boundingBox);
     }
 }
@@ -20,6 +20,7 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -84,6 +85,65 @@ public abstract class CaptureCrateGate {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
     @Unique
     private static Object[] resolveHook() {
         Object impl = getBridge(20); // slot 20 = Use hook
@@ -123,6 +183,15 @@ public abstract class CaptureCrateGate {
             if (hook.length < 3 || hook[2] == null) return;
             String raw = (String) ((MethodHandle) hook[2]).invoke(hook[0],
                     playerUuid, worldName, x, y, z);
+            sendReason(player, raw);
+        } catch (Throwable t) {
+            reportFault(t);
+        }
+    }
+
+    @Unique
+    private static void sendReason(Player player, String raw) {
+        try {
             if (raw == null || raw.isEmpty()) return;
             Object fmtHandle = getBridge(15);
             if (fmtHandle instanceof MethodHandle mh) {
@@ -153,30 +222,52 @@ public abstract class CaptureCrateGate {
         if (targetEntity == null) return null;
 
         try {
+            CommandBuffer<EntityStore> commandBuffer = context.getCommandBuffer();
+            World world = commandBuffer != null
+                    ? ((EntityStore) commandBuffer.getExternalData()).getWorld() : null;
+            String worldName = world != null ? world.getName() : null;
+
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 20); // use = 20
+            if (policy == 0) return targetEntity;
+            if (policy >= 1 && policy <= 3) {
+                // Players only, like the hook
+                Ref<EntityStore> ref = context.getEntity();
+                Player player = commandBuffer != null
+                        ? commandBuffer.getComponent(ref, Player.getComponentType()) : null;
+                if (player == null || commandBuffer.getComponent(ref, PlayerRef.getComponentType()) == null) {
+                    return targetEntity;
+                }
+                if (policy == 1) sendReason(player, policyReason(worldName, 20));
+                // Return null — existing code sets InteractionState.Failed
+                return null;
+            }
+
             Object[] hook = resolveHook();
             if (hook != null) {
-                CommandBuffer<EntityStore> commandBuffer = context.getCommandBuffer();
                 if (commandBuffer != null) {
                     Ref<EntityStore> ref = context.getEntity();
                     Player player = commandBuffer.getComponent(ref, Player.getComponentType());
                     if (player != null) {
                         PlayerRef playerRef = commandBuffer.getComponent(ref, PlayerRef.getComponentType());
-                        if (playerRef != null) {
-                            World world = ((EntityStore) commandBuffer.getExternalData()).getWorld();
+                        if (playerRef != null && !isBypassed(playerRef.getUuid(), 20)) { // use = 20
                             if (world != null) {
                                 TransformComponent transform = commandBuffer.getComponent(
                                         ref, TransformComponent.getComponentType());
                                 if (transform != null) {
                                     Vector3d pos = transform.getPosition();
                                     UUID playerUuid = playerRef.getUuid();
-                                    String worldName = world.getName();
 
                                     System.getProperties().put("hyperprotect.context.interaction",
                                             "UseCaptureCrateInteraction(entity-capture)");
 
-                                    int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                                            hook[0], playerUuid, worldName,
-                                            (int) pos.getX(), (int) pos.getY(), (int) pos.getZ());
+                                    // Capability mask allows the whole chunk — skip the hook
+                                    int verdict = hasCapability(20, playerUuid, worldName,
+                                            (int) Math.floor(pos.getX()), (int) Math.floor(pos.getZ()))
+                                            ? 0
+                                            : (int) ((MethodHandle) hook[1]).invoke(
+                                                    hook[0], playerUuid, worldName,
+                                                    (int) pos.getX(), (int) pos.getY(), (int) pos.getZ());
 
                                     if (verdict >= 1 && verdict <= 3) {
                                         if (verdict == 1) {
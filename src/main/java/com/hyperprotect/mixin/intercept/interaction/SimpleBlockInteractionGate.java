@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -47,6 +48,10 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *
  * <p>Verdict protocol: 0=ALLOW, 1=DENY_WITH_MESSAGE, 2=DENY_SILENT, 3=DENY_MOD_HANDLES.
  * Fail-open on error.
+ *
+ * <p>container_open verdicts (and deny reasons) are cached per player and container block for
+ * {@code -Dhyperprotect.cache.container_open_ttl} milliseconds (default 2000, 0 disables), and
+ * dropped early when the hook is replaced or the container_open epoch changes.
  */
 @Mixin(SimpleBlockInteraction.class)
 public abstract class SimpleBlockInteractionGate {
@@ -74,7 +79,24 @@ public abstract class SimpleBlockInteractionGate {
     @Unique
     private static final long DENY_DEDUP_NANOS = 500_000_000L; // 500ms
 
-    // Per-class resolved hook cache: className -> {impl, MethodHandle evaluate, MethodHandle fetchReason}
+    // container_open verdicts per (player, container block)
+    @Unique
+    public record ContainerKey(UUID playerUuid, String worldName, int x, int y, int z) {}
+
+    @Unique
+    public record ContainerVerdict(Object impl, long epoch, long expiresAt, int verdict, String reason) {}
+
+    @Unique
+    private static final ConcurrentHashMap<ContainerKey, ContainerVerdict> containerVerdicts = new ConcurrentHashMap<>();
+
+    @Unique
+    private static final long CONTAINER_OPEN_TTL_NANOS =
+            Long.getLong("hyperprotect.cache.container_open_ttl", 2000L) * 1_000_000L;
+
+    @Unique
+    private static final int MAX_CONTAINER_VERDICTS = 4096;
+
+    // Per-class resolved hook cache: className -> {impl, MethodHandle evaluate, MethodHandle fetchReason, Integer slot}
     @Unique
     private static final ConcurrentHashMap<String, Object[]> resolvedHooks = new ConcurrentHashMap<>();
 
@@ -183,6 +205,74 @@ public abstract class SimpleBlockInteractionGate {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Current epoch of a slot, or 0 if the bridge is not initialized.
+     */
+    @Unique
+    private static long epoch(int slot) {
+        Object epochs = System.getProperties().get("hyperprotect.bridge.epoch");
+        return epochs instanceof AtomicLongArray arr ? arr.get(slot) : 0L;
+    }
+
     @Unique
     private static Object[] resolveHook(String className) {
         Object[] hookDef = HOOK_DEFS.get(className);
@@ -209,7 +299,7 @@ public abstract class SimpleBlockInteractionGate {
                         impl.getClass(), (String) hookDef[2], FETCH_REASON_TYPE);
             } catch (NoSuchMethodException ignored) {}
 
-            cached = new Object[] { impl, primary, secondary };
+            cached = new Object[] { impl, primary, secondary, slot };
             resolvedHooks.put(className, cached);
             return cached;
         } catch (Exception e) {
@@ -225,16 +315,30 @@ public abstract class SimpleBlockInteractionGate {
         try {
             if (hook.length < 3 || hook[2] == null) return;
 
-            // Deduplicate: suppress if same player was denied within 500ms
-            // (F-key creates multiple interaction types that all fire through tick0)
-            long now = System.nanoTime();
-            Long prev = lastDenyTime.put(playerUuid, now);
-            if (prev != null && (now - prev) < DENY_DEDUP_NANOS) {
-                return; // Suppress duplicate message
-            }
+            if (isDuplicateDeny(playerUuid)) return; // Suppress duplicate message
 
             String raw = (String) ((MethodHandle) hook[2]).invoke(hook[0],
                     playerUuid, worldName, x, y, z);
+            sendReason(player, raw);
+        } catch (Throwable t) {
+            reportFault(t);
+        }
+    }
+
+    /**
+     * Deduplicate: true if the same player was denied within 500ms
+     * (F-key creates multiple interaction types that all fire through tick0).
+     */
+    @Unique
+    private static boolean isDuplicateDeny(UUID playerUuid) {
+        long now = System.nanoTime();
+        Long prev = lastDenyTime.put(playerUuid, now);
+        return prev != null && (now - prev) < DENY_DEDUP_NANOS;
+    }
+
+    @Unique
+    private static void sendReason(Player player, String raw) {
+        try {
             if (raw == null || raw.isEmpty()) return;
             Object fmtHandle = getBridge(15);
             if (fmtHandle instanceof MethodHandle mh) {
@@ -246,6 +350,43 @@ public abstract class SimpleBlockInteractionGate {
         }
     }
 
+    /**
+     * container_open verdict for a player and container block, from the cache while it is fresh.
+     * The deny reason is fetched together with a DENY_WITH_MESSAGE verdict and cached with it;
+     * if the fetch fails the deny is still cached, without a reason.
+     */
+    @Unique
+    private static ContainerVerdict queryContainerVerdict(Object[] hook, UUID playerUuid, String worldName,
+                                                          int x, int y, int z) throws Throwable {
+        long now = System.nanoTime();
+        long epoch = epoch(17); // container_open = 17
+        ContainerKey key = new ContainerKey(playerUuid, worldName, x, y, z);
+        ContainerVerdict cached = containerVerdicts.get(key);
+        if (cached != null && cached.impl() == hook[0] && cached.epoch() == epoch
+                && now - cached.expiresAt() < 0) {
+            return cached;
+        }
+
+        // Capability mask allows the whole chunk — skip the hook
+        int verdict = hasCapability(17, playerUuid, worldName, x, z)
+                ? 0
+                : (int) ((MethodHandle) hook[1]).invoke(hook[0], playerUuid, worldName, x, y, z);
+        String reason = null;
+        if (verdict == 1 && hook[2] != null) {
+            // A failing reason fetch must not turn the deny into an allow
+            try {
+                reason = (String) ((MethodHandle) hook[2]).invoke(hook[0], playerUuid, worldName, x, y, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+
+        if (containerVerdicts.size() >= MAX_CONTAINER_VERDICTS) containerVerdicts.clear();
+        cached = new ContainerVerdict(hook[0], epoch, now + CONTAINER_OPEN_TTL_NANOS, verdict, reason);
+        containerVerdicts.put(key, cached);
+        return cached;
+    }
+
     /**
      * Redirects the {@code this.interactWithBlock(...)} call inside
      * {@code SimpleBlockInteraction.tick0()}.
@@ -265,15 +406,35 @@ public abstract class SimpleBlockInteractionGate {
                                        CooldownHandler cooldownHandler) {
         try {
             String className = self.getClass().getName();
-            Object[] hook = resolveHook(className);
+            Object[] hookDef = HOOK_DEFS.get(className);
+            String worldName = world.getName();
+
+            // World policy decides without the hook
+            int policy = hookDef != null ? worldPolicy(worldName, (int) hookDef[0]) : -1;
+            boolean denyAll = policy >= 1 && policy <= 3;
+            if (denyAll) {
+                // Players only, like the hook
+                Ref<EntityStore> ref = context.getEntity();
+                Player player = commandBuffer.getComponent(ref, Player.getComponentType());
+                PlayerRef playerRef = player != null
+                        ? commandBuffer.getComponent(ref, PlayerRef.getComponentType()) : null;
+                if (playerRef != null) {
+                    if (policy == 1 && !isDuplicateDeny(playerRef.getUuid())) {
+                        sendReason(player, policyReason(worldName, (int) hookDef[0]));
+                    }
+                    context.getState().state = InteractionState.Failed;
+                    return; // DENIED
+                }
+            }
+
+            Object[] hook = policy == 0 || denyAll ? null : resolveHook(className);
             if (hook != null) {
                 Ref<EntityStore> ref = context.getEntity();
                 Player player = commandBuffer.getComponent(ref, Player.getComponentType());
                 if (player != null) {
                     PlayerRef playerRef = commandBuffer.getComponent(ref, PlayerRef.getComponentType());
-                    if (playerRef != null) {
+                    if (playerRef != null && !isBypassed(playerRef.getUuid(), (int) hook[3])) {
                         UUID playerUuid = playerRef.getUuid();
-                        String worldName = world.getName();
                         int x = targetBlock.getX();
                         int y = targetBlock.getY();
                         int z = targetBlock.getZ();
@@ -281,15 +442,29 @@ public abstract class SimpleBlockInteractionGate {
                         // Pass interaction class name to hook for debug logging
                         System.getProperties().put("hyperprotect.context.interaction", className);
 
-                        int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                                hook[0], playerUuid, worldName, x, y, z);
-
-                        if (verdict >= 1 && verdict <= 3) {
-                            if (verdict == 1) {
-                                sendDenyMessage(hook, player, playerUuid, worldName, x, y, z);
+                        if ((int) hook[3] == 17 && CONTAINER_OPEN_TTL_NANOS > 0) { // container_open = 17
+                            ContainerVerdict cached = queryContainerVerdict(hook, playerUuid, worldName, x, y, z);
+                            if (cached.verdict() >= 1 && cached.verdict() <= 3) {
+                                if (cached.verdict() == 1 && !isDuplicateDeny(playerUuid)) {
+                                    sendReason(player, cached.reason());
+                                }
+                                context.getState().state = InteractionState.Failed;
+                                return; // DENIED
+                            }
+                        } else {
+                            // Capability mask allows the whole chunk — skip the hook
+                            int verdict = hasCapability((int) hook[3], playerUuid, worldName, x, z)
+                                    ? 0
+                                    : (int) ((MethodHandle) hook[1]).invoke(
+                                            hook[0], playerUuid, worldName, x, y, z);
+
+                            if (verdict >= 1 && verdict <= 3) {
+                                if (verdict == 1) {
+                                    sendDenyMessage(hook, player, playerUuid, worldName, x, y, z);
+                                }
+                                context.getState().state = InteractionState.Failed;
+                                return; // DENIED
                             }
-                            context.getState().state = InteractionState.Failed;
-                            return; // DENIED
                         }
                     }
                 }
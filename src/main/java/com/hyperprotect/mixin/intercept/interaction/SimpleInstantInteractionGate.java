@@ -66,7 +66,7 @@ public abstract class SimpleInstantInteractionGate {
     @Unique
     private static final AtomicLong faultCount = new AtomicLong();
 
-    // Per-class resolved hook cache: className -> {impl, MethodHandle evaluate, MethodHandle fetchReason, Boolean useDoubleCoords}
+    // Per-class resolved hook cache: className -> {impl, MethodHandle evaluate, MethodHandle fetchReason, Boolean useDoubleCoords, Integer slot}
     @Unique
     private static final ConcurrentHashMap<String, Object[]> resolvedHooks = new ConcurrentHashMap<>();
 
@@ -122,6 +122,65 @@ public abstract class SimpleInstantInteractionGate {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Deny message configured alongside the world's policy for a slot, or null.
+     */
+    @Unique
+    private static String policyReason(String worldName, int slot) {
+        Object reasons = System.getProperties().get("hyperprotect.bridge.policy_reason");
+        if (reasons instanceof Map<?, ?> map && map.get(worldName) instanceof String[] messages
+                && slot < messages.length) {
+            return messages[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
     @Unique
     private static Object[] resolveHook(String className) {
         Object[] hookDef = HOOK_DEFS.get(className);
@@ -152,7 +211,7 @@ public abstract class SimpleInstantInteractionGate {
                 } catch (NoSuchMethodException ignored) {}
             }
 
-            cached = new Object[] { impl, primary, secondary, useDoubles };
+            cached = new Object[] { impl, primary, secondary, useDoubles, slot };
             resolvedHooks.put(className, cached);
             return cached;
         } catch (Exception e) {
@@ -169,6 +228,15 @@ public abstract class SimpleInstantInteractionGate {
             if (hook.length < 3 || hook[2] == null) return;
             String raw = (String) ((MethodHandle) hook[2]).invoke(hook[0],
                     playerUuid, worldName, x, y, z);
+            sendReason(player, raw);
+        } catch (Throwable t) {
+            reportFault(t);
+        }
+    }
+
+    @Unique
+    private static void sendReason(Player player, String raw) {
+        try {
             if (raw == null || raw.isEmpty()) return;
             Object fmtHandle = getBridge(15);
             if (fmtHandle instanceof MethodHandle mh) {
@@ -197,31 +265,52 @@ public abstract class SimpleInstantInteractionGate {
                                          InteractionType type, InteractionContext context,
                                          CooldownHandler cooldownHandler) {
         try {
-            Object[] hook = resolveHook(self.getClass().getName());
+            String className = self.getClass().getName();
+            Object[] hookDef = HOOK_DEFS.get(className);
+            CommandBuffer<EntityStore> commandBuffer = context.getCommandBuffer();
+            World world = hookDef != null && commandBuffer != null
+                    ? ((EntityStore) commandBuffer.getExternalData()).getWorld() : null;
+            String worldName = world != null ? world.getName() : null;
+
+            // World policy decides without the hook
+            int policy = worldName != null ? worldPolicy(worldName, (int) hookDef[0]) : -1;
+            boolean denyAll = policy >= 1 && policy <= 3;
+            if (denyAll) {
+                // Players only, like the hook
+                Ref<EntityStore> ref = context.getEntity();
+                Player player = commandBuffer.getComponent(ref, Player.getComponentType());
+                if (player != null && commandBuffer.getComponent(ref, PlayerRef.getComponentType()) != null) {
+                    if (policy == 1) sendReason(player, policyReason(worldName, (int) hookDef[0]));
+                    context.getState().state = InteractionState.Failed;
+                    return; // DENIED
+                }
+            }
+
+            Object[] hook = policy == 0 || denyAll ? null : resolveHook(className);
             if (hook != null) {
-                CommandBuffer<EntityStore> commandBuffer = context.getCommandBuffer();
                 if (commandBuffer != null) {
                     Ref<EntityStore> ref = context.getEntity();
                     Player player = commandBuffer.getComponent(ref, Player.getComponentType());
                     PlayerRef playerRef = player != null
                             ? commandBuffer.getComponent(ref, PlayerRef.getComponentType()) : null;
-                    if (playerRef != null) {
-                        World world = ((EntityStore) commandBuffer.getExternalData()).getWorld();
+                    if (playerRef != null && !isBypassed(playerRef.getUuid(), (int) hook[4])) {
                         if (world != null) {
                             TransformComponent transform = commandBuffer.getComponent(
                                     ref, TransformComponent.getComponentType());
                             if (transform != null) {
                                 Vector3d pos = transform.getPosition();
                                 UUID playerUuid = playerRef.getUuid();
-                                String worldName = world.getName();
 
                                 // Pass interaction class name to hook for debug logging
                                 System.getProperties().put("hyperprotect.context.interaction",
-                                        self.getClass().getName());
+                                        className);
 
                                 boolean useDoubles = (boolean) hook[3];
                                 int verdict;
-                                if (useDoubles) {
+                                if (hasCapability((int) hook[4], playerUuid, worldName,
+                                        (int) Math.floor(pos.getX()), (int) Math.floor(pos.getZ()))) {
+                                    verdict = 0; // Capability mask allows the whole chunk — skip the hook
+                                } else if (useDoubles) {
                                     verdict = (int) ((MethodHandle) hook[1]).invoke(
                                             hook[0], playerUuid, worldName,
                                             pos.getX(), pos.getY(), pos.getZ());
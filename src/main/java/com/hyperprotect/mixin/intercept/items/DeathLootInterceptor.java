@@ -21,6 +21,7 @@ import javax.annotation.Nonnull;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -71,6 +72,52 @@ public abstract class DeathLootInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
     @Unique
     private static Object[] resolveHook() {
         Object[] cached = hookCache;
@@ -121,31 +168,42 @@ public abstract class DeathLootInterceptor {
         if (result == null) return null; // Let original handle it
 
         try {
-            Object[] hook = resolveHook();
-            if (hook == null) return result; // No hook = allow (drop normally)
-
-            // Get player context
             @SuppressWarnings("unchecked")
             Store<EntityStore> typedStore = (Store<EntityStore>) store;
             @SuppressWarnings("unchecked")
             Ref<EntityStore> typedRef = (Ref<EntityStore>) ref;
 
-            PlayerRef playerRef = typedStore.getComponent(typedRef, PlayerRef.getComponentType());
-            if (playerRef == null) return result;
-
             World world = typedStore.getExternalData().getWorld();
             String worldName = world != null ? world.getName() : null;
             if (worldName == null) return result;
 
+            // World policy decides without the hook (players only, like the hook)
+            int policy = worldPolicy(worldName, 5); // death_drop = 5
+            if (policy == 0) return result;
+            boolean denyAll = policy >= 1 && policy <= 3;
+            Object[] hook = denyAll ? null : resolveHook();
+            if (hook == null && !denyAll) return result; // No hook = allow (drop normally)
+
+            // Get player context
+            PlayerRef playerRef = typedStore.getComponent(typedRef, PlayerRef.getComponentType());
+            if (playerRef == null) return result;
+            if (denyAll) return null; // Keep inventory
+            if (isBypassed(playerRef.getUuid(), 5)) return result; // death_drop = 5
+
             TransformComponent transform = typedStore.getComponent(typedRef, TransformComponent.getComponentType());
             if (transform == null) return result;
 
             Vector3d pos = transform.getPosition();
             UUID playerUuid = playerRef.getUuid();
+            int x = (int) Math.floor(pos.getX());
+            int y = (int) Math.floor(pos.getY());
+            int z = (int) Math.floor(pos.getZ());
+
+            // Capability mask allows the whole chunk — skip the hook
+            if (hasCapability(5, playerUuid, worldName, x, z)) return result;
 
             int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                    hook[0], playerUuid, worldName,
-                    (int) pos.getX(), (int) pos.getY(), (int) pos.getZ());
+                    hook[0], playerUuid, worldName, x, y, z);
 
             // Verdict 0 = ALLOW (drop normally), anything else = keep inventory
             if (verdict != 0) {
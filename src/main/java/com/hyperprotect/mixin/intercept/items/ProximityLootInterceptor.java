@@ -18,8 +18,14 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -34,6 +40,17 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  *
  * <p>Verdict protocol: 0=ALLOW, 2=DENY (always silent for automatic pickup, no messaging).
  * Negative/unknown values = ALLOW (fail-open).
+ *
+ * <p>Verdicts are remembered per item entity for the player they were computed for, and reused
+ * until the item or the player moves to another chunk, the hook is replaced, or the item_pickup
+ * epoch changes. Entries not used for {@code -Dhyperprotect.pickup.verdict_ttl_ms} (default 5000)
+ * are dropped, so picked-up or despawned items are not kept reachable. Nothing is captured while
+ * no hook and no world policy is configured, and the captured item transform is cleared once the
+ * closest-player check has used it.
+ *
+ * <p>When the closest player is denied, the next-closest eligible player within
+ * {@code -Dhyperprotect.pickup.radius} blocks (default 8) is returned instead, so the item can
+ * still be picked up. Eligibility of those players is cached per player for the item's chunk.
  */
 @Mixin(PlayerItemEntityPickupSystem.class)
 public abstract class ProximityLootInterceptor {
@@ -50,11 +67,81 @@ public abstract class ProximityLootInterceptor {
     // --- ThreadLocal state for capturing data across injection points ---
 
     @Unique
-    private static final ThreadLocal<Vector3d> lootPosition = new ThreadLocal<>();
+    private static final ThreadLocal<TransformComponent> lootTransform = new ThreadLocal<>();
 
     @Unique
     private static final ThreadLocal<Store<EntityStore>> activeStore = new ThreadLocal<>();
 
+    // --- Per-item verdicts ---
+
+    /**
+     * Last verdict for one item entity, mutated in place when it is recomputed.
+     */
+    @Unique
+    private static final class ItemVerdict {
+        public Object impl;
+        public long epoch;
+        public UUID playerUuid;
+        public long itemChunk;
+        public long playerChunk;
+        public int verdict;
+        public long lastUsed;
+
+        public boolean matches(Object impl, long epoch, UUID playerUuid, long itemChunk, long playerChunk) {
+            return this.impl == impl && this.epoch == epoch && this.itemChunk == itemChunk
+                    && this.playerChunk == playerChunk && this.playerUuid.equals(playerUuid);
+        }
+    }
+
+    /**
+     * Keyed by the item's TransformComponent (one per item entity). Entries unused for
+     * {@code ITEM_TTL_NANOS} are swept, at most once per sweep interval.
+     */
+    @Unique
+    private static final ThreadLocal<IdentityHashMap<TransformComponent, ItemVerdict>> itemVerdicts =
+            ThreadLocal.withInitial(IdentityHashMap::new);
+
+    @Unique
+    private static final ThreadLocal<long[]> lastSweep = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Unique
+    private static final long ITEM_TTL_NANOS =
+            Long.getLong("hyperprotect.pickup.verdict_ttl_ms", 5000L) * 1_000_000L;
+
+    @Unique
+    private static final int MAX_ITEM_VERDICTS = 8192;
+
+    // --- Closest eligible player ---
+
+    /**
+     * A player's pickup verdict for one chunk, mutated in place when it is recomputed.
+     */
+    @Unique
+    private static final class Eligibility {
+        public Object impl;
+        public long epoch;
+        public long chunk;
+        public int verdict;
+    }
+
+    @Unique
+    private static final ThreadLocal<HashMap<UUID, Eligibility>> eligibility =
+            ThreadLocal.withInitial(HashMap::new);
+
+    @Unique
+    private static final ThreadLocal<ArrayList<Object>> nearbyPlayers = ThreadLocal.withInitial(ArrayList::new);
+
+    /** Per-thread squared distances for sorting candidates, grown as needed. */
+    @Unique
+    private static final ThreadLocal<double[]> candidateDistances = ThreadLocal.withInitial(() -> new double[16]);
+
+    @Unique
+    private static final double PICKUP_RADIUS = pickupRadius();
+
+    /** {@code SpatialStructure.collect(Vector3d, double, List)}, or null if this server lacks it. */
+    @Unique
+    private static final MethodHandle COLLECT = resolveCollect();
+
     // --- Cached hook (volatile for cross-thread visibility) ---
 
     @Unique
@@ -93,6 +180,101 @@ public abstract class ProximityLootInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether any world has a policy table, i.e. item_pickup can be denied without a hook.
+     */
+    @Unique
+    private static boolean hasPolicies() {
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        return policy instanceof Map<?, ?> map && !map.isEmpty();
+    }
+
+    /**
+     * Current epoch of a slot, or 0 if the bridge is not initialized.
+     */
+    @Unique
+    private static long epoch(int slot) {
+        Object epochs = System.getProperties().get("hyperprotect.bridge.epoch");
+        return epochs instanceof AtomicLongArray arr ? arr.get(slot) : 0L;
+    }
+
+    @Unique
+    private static long chunkKey(double x, double z) {
+        return ((long) ((int) Math.floor(x) >> 5) << 32) | (((int) Math.floor(z) >> 5) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * {@code hyperprotect.pickup.radius}, or 8 if it is unset, not a number, or not positive.
+     */
+    @Unique
+    private static double pickupRadius() {
+        String value = System.getProperty("hyperprotect.pickup.radius");
+        if (value != null) {
+            try {
+                double radius = Double.parseDouble(value.trim());
+                if (radius > 0 && radius < Double.POSITIVE_INFINITY) return radius;
+            } catch (NumberFormatException ignored) {}
+            System.err.println("[HyperProtect] Ignoring invalid hyperprotect.pickup.radius: " + value);
+        }
+        return 8.0;
+    }
+
+    @Unique
+    private static MethodHandle resolveCollect() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(SpatialStructure.class, "collect",
+                    MethodType.methodType(void.class, Vector3d.class, double.class, List.class));
+        } catch (Exception e) {
+            return null; // Fall back to deny-for-everyone
+        }
+    }
+
     // --- Hook resolution ---
 
     @Unique
@@ -128,12 +310,16 @@ public abstract class ProximityLootInterceptor {
         at = @At(value = "INVOKE", target = "Lcom/hypixel/hytale/component/Store;getResource(Lcom/hypixel/hytale/component/ResourceType;)Lcom/hypixel/hytale/component/Resource;")
     )
     private <R extends Resource<EntityStore>> R captureStore(Store<EntityStore> store, ResourceType<EntityStore, R> resourceType) {
-        activeStore.set(store);
+        if (getBridge(4) != null || hasPolicies()) { // item_pickup = 4
+            activeStore.set(store);
+        } else {
+            activeStore.remove();
+        }
         return store.getResource(resourceType);
     }
 
     /**
-     * Capture the item entity's position.
+     * Capture the item entity's transform (position and identity).
      */
     @Redirect(
         method = "tick",
@@ -144,15 +330,17 @@ public abstract class ProximityLootInterceptor {
         )
     )
     private Vector3d captureLootPosition(TransformComponent transformComponent) {
-        Vector3d position = transformComponent.getPosition();
-        lootPosition.set(position);
-        return position;
+        if (activeStore.get() != null) {
+            lootTransform.set(transformComponent);
+        }
+        return transformComponent.getPosition();
     }
 
     /**
      * Evaluate pickup permission when finding the closest player.
      * Returns null to cancel the pickup if denied.
-     * No bypass checks -- the hook implementation decides.
+     * Order as in docs/hooks.md: world policy, then the player's bypass bit, then the
+     * capability mask, then the hook.
      */
     @Redirect(
         method = "tick",
@@ -164,23 +352,15 @@ public abstract class ProximityLootInterceptor {
             return null;
         }
 
-        Vector3d itemPos = lootPosition.get();
-        if (itemPos == null) {
+        Store<EntityStore> store = activeStore.get();
+        TransformComponent itemTransform = lootTransform.get();
+        lootTransform.remove(); // One capture per closest() call; never hold the item past it
+        if (store == null || itemTransform == null) {
             return result;
         }
 
         try {
-            Store<EntityStore> store = activeStore.get();
-            if (store == null) {
-                return result;
-            }
-
-            @SuppressWarnings("unchecked")
-            Ref<EntityStore> targetRef = (Ref<EntityStore>) result;
-            PlayerRef playerRef = (PlayerRef) store.getComponent(targetRef, PlayerRef.getComponentType());
-            if (playerRef == null) {
-                return result;
-            }
+            Vector3d itemPos = itemTransform.getPosition();
 
             String worldName = null;
             if (store.getExternalData() != null && ((EntityStore) store.getExternalData()).getWorld() != null) {
@@ -190,18 +370,75 @@ public abstract class ProximityLootInterceptor {
                 return result;
             }
 
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 4); // item_pickup = 4
+            if (policy == ALLOW) {
+                return result;
+            }
+            if (policy >= 1 && policy <= 3) {
+                return null; // Cancel pickup
+            }
+
+            @SuppressWarnings("unchecked")
+            Ref<EntityStore> targetRef = (Ref<EntityStore>) result;
+            PlayerRef playerRef = (PlayerRef) store.getComponent(targetRef, PlayerRef.getComponentType());
+            if (playerRef == null || isBypassed(playerRef.getUuid(), 4)) { // item_pickup = 4
+                return result;
+            }
+
             Object[] hook = resolveHook();
             if (hook == null) {
                 return result; // No hook = allow (fail-open)
             }
 
-            int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                    hook[0], playerRef.getUuid(), worldName,
-                    itemPos.getX(), itemPos.getY(), itemPos.getZ());
+            // Same item, same player, neither changed chunk — reuse the verdict
+            UUID playerUuid = playerRef.getUuid();
+            long itemChunk = chunkKey(itemPos.getX(), itemPos.getZ());
+            TransformComponent playerTransform = store.getComponent(targetRef, TransformComponent.getComponentType());
+            long playerChunk = playerTransform != null
+                    ? chunkKey(playerTransform.getPosition().getX(), playerTransform.getPosition().getZ())
+                    : itemChunk;
+            long epoch = epoch(4); // item_pickup = 4
+
+            long now = System.nanoTime();
+            IdentityHashMap<TransformComponent, ItemVerdict> verdicts = itemVerdicts.get();
+            long[] sweptAt = lastSweep.get();
+            if (now - sweptAt[0] > ITEM_TTL_NANOS) {
+                sweptAt[0] = now;
+                verdicts.values().removeIf(entry -> now - entry.lastUsed > ITEM_TTL_NANOS);
+            }
+            ItemVerdict cached = verdicts.get(itemTransform);
+            int verdict;
+            if (cached != null && cached.matches(hook[0], epoch, playerUuid, itemChunk, playerChunk)) {
+                verdict = cached.verdict;
+            } else {
+                // Capability mask allows the whole chunk — skip the hook
+                verdict = hasCapability(4, playerUuid, worldName,
+                        (int) Math.floor(itemPos.getX()), (int) Math.floor(itemPos.getZ()))
+                        ? ALLOW
+                        : (int) ((MethodHandle) hook[1]).invoke(
+                                hook[0], playerUuid, worldName,
+                                itemPos.getX(), itemPos.getY(), itemPos.getZ());
+
+                if (cached == null) {
+                    if (verdicts.size() >= MAX_ITEM_VERDICTS) verdicts.clear();
+                    cached = new ItemVerdict();
+                    verdicts.put(itemTransform, cached);
+                }
+                cached.impl = hook[0];
+                cached.epoch = epoch;
+                cached.playerUuid = playerUuid;
+                cached.itemChunk = itemChunk;
+                cached.playerChunk = playerChunk;
+                cached.verdict = verdict;
+            }
+            cached.lastUsed = now;
 
             // Any non-zero positive verdict = deny (silent, no messaging for auto pickup)
             if (verdict > ALLOW) {
-                return null; // Cancel pickup
+                // Hand the item to the closest player who may take it, or nobody
+                return closestEligible(spatialStructure, position, store, targetRef, hook,
+                        worldName, itemPos, itemChunk, epoch);
             }
         } catch (Throwable e) {
             reportFault(e);
@@ -210,4 +447,88 @@ public abstract class ProximityLootInterceptor {
 
         return result;
     }
+
+    /**
+     * Closest player within the pickup radius, other than the denied one, who may pick up
+     * an item in this chunk. Returns null if there is none.
+     */
+    @Unique
+    private static Object closestEligible(SpatialStructure<?> spatialStructure, Vector3d position,
+                                          Store<EntityStore> store, Ref<EntityStore> deniedRef,
+                                          Object[] hook, String worldName, Vector3d itemPos,
+                                          long itemChunk, long epoch) throws Throwable {
+        if (COLLECT == null) return null;
+
+        ArrayList<Object> candidates = nearbyPlayers.get();
+        candidates.clear();
+        try {
+            COLLECT.invoke(spatialStructure, position, PICKUP_RADIUS, candidates);
+
+            // Order by distance; candidate lists are a handful of players
+            int n = candidates.size();
+            double[] distances = candidateDistances.get();
+            if (distances.length < n) {
+                distances = new double[Math.max(n, distances.length * 2)];
+                candidateDistances.set(distances);
+            }
+            for (int i = 0; i < n; i++) {
+                @SuppressWarnings("unchecked")
+                Ref<EntityStore> ref = (Ref<EntityStore>) candidates.get(i);
+                TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+                if (transform == null) {
+                    distances[i] = Double.MAX_VALUE;
+                    continue;
+                }
+                Vector3d p = transform.getPosition();
+                double dx = p.getX() - position.getX();
+                double dy = p.getY() - position.getY();
+                double dz = p.getZ() - position.getZ();
+                distances[i] = dx * dx + dy * dy + dz * dz;
+            }
+            for (int i = 1; i < n; i++) {
+                Object candidate = candidates.get(i);
+                double distance = distances[i];
+                int j = i - 1;
+                for (; j >= 0 && distances[j] > distance; j--) {
+                    candidates.set(j + 1, candidates.get(j));
+                    distances[j + 1] = distances[j];
+                }
+                candidates.set(j + 1, candidate);
+                distances[j + 1] = distance;
+            }
+
+            HashMap<UUID, Eligibility> cache = eligibility.get();
+            for (int i = 0; i < n; i++) {
+                @SuppressWarnings("unchecked")
+                Ref<EntityStore> ref = (Ref<EntityStore>) candidates.get(i);
+                if (ref.equals(deniedRef)) continue;
+                PlayerRef playerRef = (PlayerRef) store.getComponent(ref, PlayerRef.getComponentType());
+                if (playerRef == null) continue;
+                UUID playerUuid = playerRef.getUuid();
+                if (isBypassed(playerUuid, 4)) return ref; // item_pickup = 4
+
+                Eligibility entry = cache.get(playerUuid);
+                if (entry == null || entry.impl != hook[0] || entry.epoch != epoch || entry.chunk != itemChunk) {
+                    if (entry == null) {
+                        if (cache.size() >= MAX_ITEM_VERDICTS) cache.clear();
+                        entry = new Eligibility();
+                        cache.put(playerUuid, entry);
+                    }
+                    entry.impl = hook[0];
+                    entry.epoch = epoch;
+                    entry.chunk = itemChunk;
+                    entry.verdict = hasCapability(4, playerUuid, worldName,
+                            (int) Math.floor(itemPos.getX()), (int) Math.floor(itemPos.getZ()))
+                            ? ALLOW
+                            : (int) ((MethodHandle) hook[1]).invoke(
+                                    hook[0], playerUuid, worldName,
+                                    itemPos.getX(), itemPos.getY(), itemPos.getZ());
+                }
+                if (entry.verdict <= ALLOW) return ref; // Negative/unknown = allow (fail-open)
+            }
+            return null;
+        } finally {
+            candidates.clear();
+        }
+    }
 }
@@ -17,8 +17,10 @@ import javax.annotation.Nonnull;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
@@ -32,6 +34,9 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  * </pre>
  *
  * <p>No messaging needed — durability is a passive mechanic.
+ *
+ * <p>The verdict is kept on the Player for the chunk it was computed in and reused until the
+ * player enters another chunk or world, the hook is replaced, or the durability epoch changes.
  */
 @Mixin(Player.class)
 public abstract class WearInterceptor {
@@ -42,6 +47,24 @@ public abstract class WearInterceptor {
     @Unique
     private static volatile Object[] hookCache;
 
+    /**
+     * Last durability verdict for this player, mutated in place when it is recomputed.
+     */
+    @Unique
+    private static final class WearVerdict {
+        public Object impl;
+        public long epoch;
+        public Ref<EntityStore> ref;
+        public UUID playerUuid;
+        public String worldName;
+        public int chunkX;
+        public int chunkZ;
+        public int verdict;
+    }
+
+    @Unique
+    private WearVerdict wearVerdict;
+
     static {
         System.setProperty("hyperprotect.intercept.durability", "true");
     }
@@ -67,6 +90,61 @@ public abstract class WearInterceptor {
         }
     }
 
+    /**
+     * Whether the consumer has set this slot's bypass bit for the player.
+     */
+    @Unique
+    private static boolean isBypassed(UUID playerUuid, int slot) {
+        if (playerUuid == null) return false;
+        Object bypass = System.getProperties().get("hyperprotect.bridge.bypass");
+        if (bypass instanceof Map<?, ?> map && map.get(playerUuid) instanceof Long mask) {
+            return (mask & (1L << slot)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Per-world policy for a slot: 0 allows everything, 1-3 is a fixed deny verdict,
+     * anything else (including no entry) means "ask the hook".
+     */
+    @Unique
+    private static int worldPolicy(String worldName, int slot) {
+        if (worldName == null) return -1;
+        Object policy = System.getProperties().get("hyperprotect.bridge.policy");
+        if (policy instanceof Map<?, ?> map && map.get(worldName) instanceof int[] verdicts
+                && slot < verdicts.length) {
+            return verdicts[slot];
+        }
+        return -1; // ASK_HOOK
+    }
+
+    /**
+     * Whether the cached capability mask already allows this slot for the player's chunk.
+     * True means the slot hook can be skipped; false means "ask the hook".
+     */
+    @Unique
+    private static boolean hasCapability(int slot, UUID playerUuid, String worldName, int x, int z) {
+        if (getBridge(23) == null) return false; // capabilities = 23
+        Object handle = getBridge(24); // capability_handle = 24
+        if (handle instanceof MethodHandle mh) {
+            try {
+                return (boolean) mh.invoke(slot, playerUuid, worldName, x, z);
+            } catch (Throwable t) {
+                reportFault(t);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Current epoch of a slot, or 0 if the bridge is not initialized.
+     */
+    @Unique
+    private static long epoch(int slot) {
+        Object epochs = System.getProperties().get("hyperprotect.bridge.epoch");
+        return epochs instanceof AtomicLongArray arr ? arr.get(slot) : 0L;
+    }
+
     @Unique
     private static Object[] resolveHook() {
         Object[] cached = hookCache;
@@ -113,25 +191,60 @@ public abstract class WearInterceptor {
 
         // Check hook
         try {
-            Object[] hook = resolveHook();
-            if (hook == null) return true; // No hook = allow (original says yes)
-
-            PlayerRef playerRef = componentAccessor.getComponent(ref, PlayerRef.getComponentType());
-            if (playerRef == null) return true;
-
             World world = ((EntityStore) componentAccessor.getExternalData()).getWorld();
             String worldName = world != null ? world.getName() : null;
             if (worldName == null) return true;
 
+            // World policy decides without the hook
+            int policy = worldPolicy(worldName, 6); // durability = 6
+            if (policy == 0) return true;
+            if (policy >= 1 && policy <= 3) return false;
+
+            Object[] hook = resolveHook();
+            if (hook == null) return true; // No hook = allow (original says yes)
+
             TransformComponent transform = componentAccessor.getComponent(ref, TransformComponent.getComponentType());
             if (transform == null) return true;
 
+            // Floor before shifting so negative coordinates land in the right block and chunk
             Vector3d pos = transform.getPosition();
+            int x = (int) Math.floor(pos.getX());
+            int y = (int) Math.floor(pos.getY());
+            int z = (int) Math.floor(pos.getZ());
+            int chunkX = x >> 5;
+            int chunkZ = z >> 5;
+            long epoch = epoch(6); // durability = 6
+
+            // Same player, same chunk — reuse the verdict without the PlayerRef lookup
+            WearVerdict cached = this.wearVerdict;
+            if (cached != null && cached.ref == ref && cached.impl == hook[0] && cached.epoch == epoch
+                    && cached.chunkX == chunkX && cached.chunkZ == chunkZ
+                    && cached.worldName.equals(worldName)) {
+                return cached.verdict == 0 || isBypassed(cached.playerUuid, 6); // durability = 6
+            }
+
+            PlayerRef playerRef = componentAccessor.getComponent(ref, PlayerRef.getComponentType());
+            if (playerRef == null || isBypassed(playerRef.getUuid(), 6)) return true; // durability = 6
+
             UUID playerUuid = playerRef.getUuid();
 
-            int verdict = (int) ((MethodHandle) hook[1]).invoke(
-                    hook[0], playerUuid, worldName,
-                    (int) pos.getX(), (int) pos.getY(), (int) pos.getZ());
+            // Capability mask allows the whole chunk — skip the hook
+            int verdict = hasCapability(6, playerUuid, worldName, x, z)
+                    ? 0
+                    : (int) ((MethodHandle) hook[1]).invoke(hook[0], playerUuid, worldName, x, y, z);
+
+            if (cached == null) {
+                cached = new WearVerdict();
+                this.wearVerdict = cached;
+            }
+            cached.impl = hook[0];
+            cached.epoch = epoch;
+            cached.ref = ref;
+            cached.playerUuid = playerUuid;
+            cached.worldName = worldName;
+            cached.chunkX = chunkX;
+            cached.chunkZ = chunkZ;
+            cached.verdict = verdict;
 
             // Verdict 0 = ALLOW, anything else = prevent durability loss
             if (verdict != 0) {
@@ -0,0 +1,145 @@
+package com.hyperprotect.mixin.bridge;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClaimGridTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void putAndLookup() throws IOException {
+        try (ClaimGrid grid = ClaimGrid.openWriter(dir.resolve("world.hpcg"), 16)) {
+            grid.put(3, -7, 42, 0x0F);
+            grid.put(-1, 0, 7, -1);
+
+            long entry = grid.lookup(3, -7);
+            assertEquals(42, ClaimGrid.claimId(entry));
+            assertEquals(0x0F, ClaimGrid.flags(entry));
+            assertEquals(7, grid.claimIdAt(-1, 0));
+            assertEquals(-1, ClaimGrid.flags(grid.lookup(-1, 0)));
+            assertEquals(0L, grid.lookup(0, 0));
+            assertEquals(0L, grid.lookup(-7, 3));
+            assertEquals(2, grid.size());
+        }
+    }
+
+    @Test
+    void putUpdatesExistingEntry() throws IOException {
+        try (ClaimGrid grid = ClaimGrid.openWriter(dir.resolve("world.hpcg"), 16)) {
+            grid.put(1, 1, 5, 1);
+            grid.put(1, 1, 6, 2);
+            assertEquals(6, grid.claimIdAt(1, 1));
+            assertEquals(2, ClaimGrid.flags(grid.lookup(1, 1)));
+            assertEquals(1, grid.size());
+            assertThrows(IllegalArgumentException.class, () -> grid.put(1, 1, 0, 0));
+        }
+    }
+
+    @Test
+    void removeLeavesOtherEntriesReachable() throws IOException {
+        try (ClaimGrid grid = ClaimGrid.openWriter(dir.resolve("world.hpcg"), 16)) {
+            for (int x = 0; x < 100; x++) {
+                grid.put(x, 0, x + 1, 0);
+            }
+            assertTrue(grid.remove(50, 0));
+            assertFalse(grid.remove(50, 0));
+            assertEquals(0L, grid.lookup(50, 0));
+            assertEquals(99, grid.size());
+            for (int x = 0; x < 100; x++) {
+                if (x != 50) assertEquals(x + 1, grid.claimIdAt(x, 0));
+            }
+
+            grid.put(50, 0, 500, 0); // Reuses the tombstone
+            assertEquals(500, grid.claimIdAt(50, 0));
+            assertEquals(100, grid.size());
+        }
+    }
+
+    @Test
+    void growKeepsEntriesAndReadersFollow() throws IOException {
+        Path path = dir.resolve("world.hpcg");
+        try (ClaimGrid writer = ClaimGrid.openWriter(path, 16);
+             ClaimGrid reader = ClaimGrid.open(path)) {
+            writer.put(0, 0, 1, 0);
+            assertEquals(1, reader.claimIdAt(0, 0));
+
+            // Minimum capacity is 1024 slots; the table grows once it passes half full
+            for (int i = 1; i < 3000; i++) {
+                writer.put(i, -i, i + 1, i);
+            }
+            for (int i = 0; i < 3000; i++) {
+                assertEquals(i + 1, writer.claimIdAt(i, -i));
+            }
+
+            // The reader's old mapping is retired; it reopens the path on its next lookup
+            assertEquals(3000, reader.claimIdAt(2999, -2999));
+            assertEquals(1, reader.claimIdAt(0, 0));
+            assertEquals(3000, reader.size());
+        }
+        try (ClaimGrid reopened = ClaimGrid.open(path)) {
+            assertEquals(1500, reopened.claimIdAt(1499, -1499));
+        }
+    }
+
+    @Test
+    void secondWriterIsRejected() throws IOException {
+        Path path = dir.resolve("world.hpcg");
+        try (ClaimGrid writer = ClaimGrid.openWriter(path, 16);
+             ClaimGrid reader = ClaimGrid.open(path)) {
+            assertThrows(IOException.class, () -> ClaimGrid.openWriter(path, 16));
+            assertThrows(IllegalStateException.class, () -> reader.put(0, 0, 1, 0));
+        }
+    }
+
+    @Test
+    void interruptedWriteReadsAsUnknown() throws IOException {
+        Path path = dir.resolve("world.hpcg");
+        try (ClaimGrid writer = ClaimGrid.openWriter(path, 16)) {
+            writer.put(2, 2, 9, 0);
+            writer.force();
+        }
+        setGeneration(path, 3); // Odd: a writer died between beginWrite and endWrite
+
+        try (ClaimGrid reader = ClaimGrid.open(path)) {
+            assertEquals(ClaimGrid.UNKNOWN, reader.lookup(2, 2));
+            assertEquals(-1, reader.claimIdAt(2, 2));
+        }
+        // A new writer repairs the generation
+        try (ClaimGrid writer = ClaimGrid.openWriter(path, 16);
+             ClaimGrid reader = ClaimGrid.open(path)) {
+            assertEquals(9, writer.claimIdAt(2, 2));
+            assertEquals(9, reader.claimIdAt(2, 2));
+        }
+    }
+
+    @Test
+    void staticLookupUsesRegisteredGrid() throws IOException {
+        try (ClaimGrid grid = ClaimGrid.openWriter(dir.resolve("world.hpcg"), 16)) {
+            grid.put(4, 5, 11, 3);
+            ClaimGrid.register("claimgrid-test", grid);
+            assertEquals(11, ClaimGrid.claimId(ClaimGrid.lookup("claimgrid-test", 4, 5)));
+            assertEquals(0L, ClaimGrid.lookup("claimgrid-test", 5, 4));
+            assertEquals(0L, ClaimGrid.lookup("claimgrid-missing", 4, 5));
+        }
+        // close() unregisters
+        assertEquals(0L, ClaimGrid.lookup("claimgrid-test", 4, 5));
+    }
+
+    private static void setGeneration(Path path, long generation) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(8);
+            file.writeLong(Long.reverseBytes(generation)); // Header is little-endian
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.hyperprotect.mixin.bridge;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RegionIndexTest {
+
+    private static final int[] BOXES = {
+            0, 0, 0, 9, 9, 9,
+            -40, 60, -40, -33, 70, -33
+    };
+
+    @Test
+    void intersectionReportsWorldsWithoutBoxes() {
+        long[] out = { -1L };
+        assertEquals(-1, RegionIndex.intersection("empty", new int[] { 0, 0, 0, 1, 1, 1 }, 1, out));
+        assertArrayEquals(new long[] { 0L }, out);
+        assertFalse(RegionIndex.hasRegions("empty"));
+    }
+
+    @Test
+    void intersectionMatchesPerBlockContainment() {
+        RegionIndex.setRegions("random", BOXES);
+        try {
+            Random random = new Random(30);
+            int count = 200;
+            int[] ranges = new int[count * RegionKernel.BOX_INTS];
+            for (int r = 0; r < ranges.length; r += RegionKernel.BOX_INTS) {
+                for (int axis = 0; axis < 3; axis++) {
+                    int min = random.nextInt(120) - 60;
+                    ranges[r + axis] = min;
+                    ranges[r + axis + 3] = min + random.nextInt(12);
+                }
+            }
+            long[] out = new long[RegionKernel.words(count)];
+            int hits = RegionIndex.intersection("random", ranges, count, out);
+
+            long[] expected = new long[RegionKernel.words(count)];
+            int expectedHits = 0;
+            for (int i = 0, r = 0; i < count; i++, r += RegionKernel.BOX_INTS) {
+                if (anyBlockInside(ranges, r)) {
+                    expected[i >>> 6] |= 1L << (i & 63);
+                    expectedHits++;
+                }
+            }
+            assertArrayEquals(expected, out);
+            assertEquals(expectedHits, hits);
+        } finally {
+            RegionIndex.clear("random");
+        }
+    }
+
+    @Test
+    void singleBlockRangeIsContainment() {
+        RegionIndex.setRegions("single", BOXES);
+        try {
+            long[] out = new long[1];
+            assertEquals(1, RegionIndex.intersection("single", new int[] { 9, 0, 9, 9, 0, 9 }, 1, out));
+            assertEquals(0, RegionIndex.intersection("single", new int[] { 10, 0, 9, 10, 0, 9 }, 1, out));
+            assertArrayEquals(new long[] { 0L }, out);
+        } finally {
+            RegionIndex.clear("single");
+        }
+    }
+
+    @Test
+    void setRegionsRejectsPartialBoxes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RegionIndex.setRegions("partial", new int[] { 0, 0, 0, 1, 1 }));
+        RegionIndex.setRegions("partial", new int[0]);
+        assertFalse(RegionIndex.hasRegions("partial"));
+    }
+
+    private static boolean anyBlockInside(int[] ranges, int r) {
+        for (int x = ranges[r]; x <= ranges[r + 3]; x++) {
+            for (int y = ranges[r + 1]; y <= ranges[r + 4]; y++) {
+                for (int z = ranges[r + 2]; z <= ranges[r + 5]; z++) {
+                    for (int o = 0; o < BOXES.length; o += RegionKernel.BOX_INTS) {
+                        if (x >= BOXES[o] && y >= BOXES[o + 1] && z >= BOXES[o + 2]
+                                && x <= BOXES[o + 3] && y <= BOXES[o + 4] && z <= BOXES[o + 5]) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,71 @@
+package com.hyperprotect.mixin.bridge;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpawnOrderTest {
+
+    /**
+     * canSpawn costs 1000ns and passes 20% of candidates; the hook costs 100ns and denies
+     * every candidate canSpawn would also reject plus half of the rest.
+     */
+    private static void candidate(AtomicLongArray stats, int i) {
+        boolean hookFirst = stats.get(SpawnOrder.HOOK_FIRST) == 1;
+        if (stats.incrementAndGet(SpawnOrder.CANDIDATES) % SpawnOrder.EXPLORE_EVERY == 0) hookFirst = !hookFirst;
+        boolean canSpawnPasses = i % 5 == 0;
+        boolean hookDenies = !canSpawnPasses || i % 10 == 0;
+        if (hookFirst) {
+            SpawnOrder.record(stats, true, hookDenies ? -1 : 1000, canSpawnPasses, 100, hookDenies);
+        } else {
+            SpawnOrder.record(stats, false, 1000, canSpawnPasses, canSpawnPasses ? 100 : -1, hookDenies);
+        }
+    }
+
+    @Test
+    void cheapDenyingHookMovesFirst() {
+        AtomicLongArray stats = new AtomicLongArray(SpawnOrder.LENGTH);
+        for (int i = 0; i < SpawnOrder.DECIDE_EVERY * 4; i++) candidate(stats, i);
+        assertEquals(1, stats.get(SpawnOrder.HOOK_FIRST));
+    }
+
+    @Test
+    void hookDenyRateIsNotConditionedOnCanSpawn() {
+        // canSpawn first only shows the hook the 20% that pass, of which half are denied (50%);
+        // over all candidates the hook denies 90%
+        AtomicLongArray stats = new AtomicLongArray(SpawnOrder.LENGTH);
+        for (int i = 0; i < SpawnOrder.DECIDE_EVERY - 1; i++) candidate(stats, i);
+        long leads = stats.get(SpawnOrder.HOOK_LEADS);
+        long denies = stats.get(SpawnOrder.HOOK_DENIES);
+        assertEquals(SpawnOrder.DECIDE_EVERY / SpawnOrder.EXPLORE_EVERY - 1, leads);
+        assertTrue(denies * 10 >= leads * 8);
+    }
+
+    @Test
+    void expensiveHookStaysSecond() {
+        AtomicLongArray stats = new AtomicLongArray(SpawnOrder.LENGTH);
+        for (int i = 0; i < SpawnOrder.DECIDE_EVERY * 4; i++) {
+            boolean hookFirst = stats.get(SpawnOrder.HOOK_FIRST) == 1;
+            if (stats.incrementAndGet(SpawnOrder.CANDIDATES) % SpawnOrder.EXPLORE_EVERY == 0) hookFirst = !hookFirst;
+            boolean passes = i % 2 == 0;
+            if (hookFirst) {
+                SpawnOrder.record(stats, true, 100, passes, 5000, false);
+            } else {
+                SpawnOrder.record(stats, false, 100, passes, passes ? 5000 : -1, false);
+            }
+        }
+        assertEquals(0, stats.get(SpawnOrder.HOOK_FIRST));
+    }
+
+    @Test
+    void statsArePerWorld() {
+        AtomicLongArray world = SpawnOrder.stats("spawn-order-a");
+        assertTrue(world == SpawnOrder.stats("spawn-order-a"));
+        assertFalse(world == SpawnOrder.stats("spawn-order-b"));
+        assertEquals(SpawnOrder.LENGTH, world.length());
+    }
+}